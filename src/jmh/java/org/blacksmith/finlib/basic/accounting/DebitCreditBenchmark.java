@@ -0,0 +1,78 @@
+package org.blacksmith.finlib.basic.accounting;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DebitCreditBenchmark {
+
+  @Param({ "1000", "100000" })
+  private int size;
+
+  private DebitCredit[] postings;
+  private List<DebitCredit> postingList;
+  private DebitCreditAggregator<DebitCredit, Integer> aggregator;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    postings = new DebitCredit[size];
+    for (int i = 0; i < size; i++) {
+      long value = random.nextInt(10_000_000);
+      postings[i] = random.nextBoolean() ? DebitCredit.of(value / 100d, 0d) : DebitCredit.of(0d, value / 100d);
+    }
+    postingList = Arrays.asList(postings);
+    aggregator = DebitCreditAggregator.of(posting -> posting.hashCode() & 0xff);
+  }
+
+  @Benchmark
+  public DebitCredit addFold() {
+    DebitCredit result = DebitCredit.ZERO;
+    for (DebitCredit posting : postings) {
+      result = result.add(posting);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public DebitCredit addComponentsFold() {
+    DebitCredit result = DebitCredit.ZERO;
+    for (DebitCredit posting : postings) {
+      result = result.add(posting.getDr(), posting.getCr());
+    }
+    return result;
+  }
+
+  @Benchmark
+  public DebitCredit accumulator() {
+    DebitCreditAccumulator accumulator = new DebitCreditAccumulator();
+    for (DebitCredit posting : postings) {
+      accumulator.add(posting);
+    }
+    return accumulator.toDebitCredit();
+  }
+
+  @Benchmark
+  public Map<Integer, DebitCredit> aggregate() {
+    return aggregator.aggregate(postingList);
+  }
+
+  @Benchmark
+  public Map<Integer, DebitCredit> aggregateParallel() {
+    return aggregator.aggregateParallel(postingList);
+  }
+}
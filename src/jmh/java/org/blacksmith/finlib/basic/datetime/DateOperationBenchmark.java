@@ -0,0 +1,48 @@
+package org.blacksmith.finlib.basic.datetime;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateOperationBenchmark {
+
+  private final LocalDate date = LocalDate.of(2021, 1, 31);
+  private final Tenor tenorMonths = Tenor.TENOR_3M;
+  private final Tenor tenorMixed = Tenor.parse("1M15D");
+  private final Frequency frequencyMonths = Frequency.P3M;
+  private final Frequency frequencyDays = Frequency.P1W;
+
+  @Benchmark
+  public LocalDate tenorAddToMonths() {
+    return tenorMonths.addTo(date);
+  }
+
+  @Benchmark
+  public LocalDate tenorAddToMixed() {
+    return tenorMixed.addTo(date);
+  }
+
+  @Benchmark
+  public LocalDate frequencyAddToMonths() {
+    return frequencyMonths.addTo(date, 4);
+  }
+
+  @Benchmark
+  public LocalDate frequencyAddToDays() {
+    return frequencyDays.addTo(date, 4);
+  }
+
+  @Benchmark
+  public LocalDate frequencyAddToWithEomAdjust() {
+    return frequencyMonths.addToWithEomAdjust(date, 4, true);
+  }
+}
@@ -0,0 +1,53 @@
+package org.blacksmith.finlib.basic.numbers;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AmountAccumulatorBenchmark {
+
+  @Param({ "1000", "100000" })
+  private int size;
+
+  private Amount[] amounts;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    amounts = new Amount[size];
+    for (int i = 0; i < size; i++) {
+      amounts[i] = Amount.ofUnscaled(random.nextInt(10_000_000) - 5_000_000, 2);
+    }
+  }
+
+  @Benchmark
+  public Amount reduce() {
+    return Arrays.stream(amounts).reduce(Amount.ZERO, Amount::add);
+  }
+
+  @Benchmark
+  public Amount accumulator() {
+    AmountAccumulator accumulator = new AmountAccumulator(2);
+    for (Amount amount : amounts) {
+      accumulator.add(amount);
+    }
+    return accumulator.toAmount();
+  }
+
+  @Benchmark
+  public Amount collector() {
+    return Arrays.stream(amounts).collect(AmountAccumulator.summing(2));
+  }
+}
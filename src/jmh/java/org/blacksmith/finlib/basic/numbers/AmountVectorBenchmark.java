@@ -0,0 +1,62 @@
+package org.blacksmith.finlib.basic.numbers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AmountVectorBenchmark {
+
+  @Param({ "1000", "100000" })
+  private int size;
+
+  private final Rate rate = Rate.of("1.035123456");
+  private List<Amount> amounts;
+  private AmountVector vector;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    amounts = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      amounts.add(Amount.ofUnscaled(random.nextInt(10_000_000) - 5_000_000, 2));
+    }
+    vector = AmountVector.of(amounts);
+  }
+
+  @Benchmark
+  public List<Amount> listMultiply() {
+    List<Amount> result = new ArrayList<>(amounts.size());
+    for (Amount amount : amounts) {
+      result.add(amount.multiply(rate));
+    }
+    return result;
+  }
+
+  @Benchmark
+  public AmountVector vectorMultiply() {
+    return vector.multiply(rate);
+  }
+
+  @Benchmark
+  public Amount listSum() {
+    return amounts.stream().reduce(Amount.ZERO, Amount::add);
+  }
+
+  @Benchmark
+  public Amount vectorSum() {
+    return vector.sum();
+  }
+}
@@ -0,0 +1,56 @@
+package org.blacksmith.finlib.basic.numbers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DecimalRoundedBenchmark {
+
+  private final Amount amount1 = Amount.of("1234567.89");
+  private final Amount amount2 = Amount.of("987.65");
+  private final Rate rate1 = Rate.of("0.035123456");
+  private final Rate rate2 = Rate.of("1.000123456");
+
+  @Benchmark
+  public Amount amountAdd() {
+    return amount1.add(amount2);
+  }
+
+  @Benchmark
+  public Amount amountSubtract() {
+    return amount1.subtract(amount2);
+  }
+
+  @Benchmark
+  public Amount amountMultiplyByRate() {
+    return amount1.multiply(rate1);
+  }
+
+  @Benchmark
+  public Amount amountDivide() {
+    return amount1.divide(amount2);
+  }
+
+  @Benchmark
+  public Rate rateAdd() {
+    return rate1.add(rate2);
+  }
+
+  @Benchmark
+  public Rate rateMultiply() {
+    return rate1.multiply(rate2);
+  }
+
+  @Benchmark
+  public Rate rateDivide() {
+    return rate1.divide(rate2);
+  }
+}
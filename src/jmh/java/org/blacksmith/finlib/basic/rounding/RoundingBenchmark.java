@@ -0,0 +1,111 @@
+package org.blacksmith.finlib.basic.rounding;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoundingBenchmark {
+
+  @Param({ "2", "9" })
+  private int decimalPlaces;
+
+  private final double doubleValue = 1234.5678915d;
+  private final BigDecimal decimalValue = new BigDecimal("1234.5678915");
+  private final BigDecimal fractionDecimal = BigDecimal.valueOf(4);
+  private BigDecimal alignedValue;
+  private final double[] doubleValues = new double[1000];
+  private final double[] roundedValues = new double[1000];
+  private Rounding halfUp;
+  private Rounding halfUpFraction;
+  private Rounding halfDown;
+  private Rounding doubleHalfUp;
+
+  @Setup
+  public void setup() {
+    halfUp = RoundingFactory.of(RoundingMode.UP, decimalPlaces);
+    halfUpFraction = RoundingFactory.of(RoundingMode.UP, decimalPlaces, 4);
+    halfDown = RoundingFactory.of(RoundingMode.DOWN, decimalPlaces);
+    doubleHalfUp = RoundingFactory.ofDouble(RoundingMode.UP, decimalPlaces);
+    for (int i = 0; i < doubleValues.length; i++) {
+      doubleValues[i] = doubleValue * (i + 1) / 7;
+    }
+    alignedValue = decimalValue.setScale(decimalPlaces, java.math.RoundingMode.HALF_UP);
+  }
+
+  @Benchmark
+  public BigDecimal halfUpBigDecimal() {
+    return halfUp.round(decimalValue);
+  }
+
+  @Benchmark
+  public BigDecimal halfUpFractionBigDecimal() {
+    return halfUpFraction.round(decimalValue);
+  }
+
+  /**
+   * Reference calculation of {@link #halfUpFractionBigDecimal()}, both must give the same result.
+   */
+  @Benchmark
+  public BigDecimal halfUpFractionReference() {
+    return decimalValue
+        .multiply(fractionDecimal)
+        .setScale(decimalPlaces, java.math.RoundingMode.HALF_UP)
+        .divide(fractionDecimal);
+  }
+
+  @Benchmark
+  public BigDecimal halfUpAlignedBigDecimal() {
+    return halfUp.round(alignedValue);
+  }
+
+  @Benchmark
+  public BigDecimal halfDownBigDecimal() {
+    return halfDown.round(decimalValue);
+  }
+
+  @Benchmark
+  public double halfUpDouble() {
+    return halfUp.round(doubleValue);
+  }
+
+  @Benchmark
+  public double doubleHalfUpDouble() {
+    return doubleHalfUp.round(doubleValue);
+  }
+
+  @Benchmark
+  public double halfDownDouble() {
+    return halfDown.round(doubleValue);
+  }
+
+  @Benchmark
+  public double[] halfUpDoubleArrayEach() {
+    for (int i = 0; i < doubleValues.length; i++) {
+      roundedValues[i] = halfUp.round(doubleValues[i]);
+    }
+    return roundedValues;
+  }
+
+  @Benchmark
+  public double[] halfUpDoubleArray() {
+    halfUp.round(doubleValues, roundedValues);
+    return roundedValues;
+  }
+
+  @Benchmark
+  public double[] halfDownDoubleArray() {
+    halfDown.round(doubleValues, roundedValues);
+    return roundedValues;
+  }
+}
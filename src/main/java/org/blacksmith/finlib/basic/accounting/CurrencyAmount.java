@@ -6,6 +6,8 @@ import java.util.Objects;
 
 import org.blacksmith.commons.arg.ArgChecker;
 import org.blacksmith.finlib.basic.currency.Currency;
+import org.blacksmith.finlib.basic.currency.CurrencyMetadata;
+import org.blacksmith.finlib.basic.currency.CurrencyRegistry;
 import org.blacksmith.finlib.basic.numbers.Amount;
 
 import lombok.Getter;
@@ -32,20 +34,23 @@ public class CurrencyAmount implements Comparable<CurrencyAmount> {
     return new CurrencyAmount(amount, currency);
   }
 
+  /**
+   * Creates amount rounded to minor units of the currency.
+   */
   public static CurrencyAmount of(BigDecimal amount, Currency currency) {
     ArgChecker.notNull(amount, "Amount must be not null");
     ArgChecker.notNull(currency, "Currency must be not null");
-    return new CurrencyAmount(Amount.of(amount), currency);
+    return new CurrencyAmount(Amount.of(amount, CurrencyRegistry.getMinorUnits(currency)), currency);
   }
 
   public static CurrencyAmount of(double amount, Currency currency) {
     ArgChecker.notNull(currency, "Currency must be not null");
-    return new CurrencyAmount(Amount.of(amount), currency);
+    return new CurrencyAmount(Amount.of(amount, CurrencyRegistry.getMinorUnits(currency)), currency);
   }
 
   public static CurrencyAmount of(long amount, Currency currency) {
     ArgChecker.notNull(currency, "Currency must be not null");
-    return new CurrencyAmount(Amount.of(amount), currency);
+    return new CurrencyAmount(Amount.of(amount, CurrencyRegistry.getMinorUnits(currency)), currency);
   }
 
   public CurrencyAmount add(BigDecimal augend) {
@@ -55,13 +60,13 @@ public class CurrencyAmount implements Comparable<CurrencyAmount> {
 
   public CurrencyAmount add(Amount augend) {
     ArgChecker.notNull(augend, "Augend amount must be not null");
-    return add(augend.getValue());
+    return new CurrencyAmount(this.amount.add(augend), this.currency);
   }
 
   public CurrencyAmount add(CurrencyAmount augend) {
     ArgChecker.notNull(augend, "Augend must be not null");
     ArgChecker.isTrue(this.currency.equals(augend.currency), () -> "Unable to subtract amounts in different currencies");
-    return add(augend.amount.getValue());
+    return add(augend.amount);
   }
 
   public CurrencyAmount subtract(BigDecimal subtrahend) {
@@ -71,7 +76,7 @@ public class CurrencyAmount implements Comparable<CurrencyAmount> {
 
   public CurrencyAmount subtract(Amount subtrahend) {
     ArgChecker.notNull(subtrahend, "Subtrahend amount must be not null");
-    return subtract(subtrahend.getValue());
+    return new CurrencyAmount(this.amount.subtract(subtrahend), this.currency);
   }
 
   public CurrencyAmount multiply(BigDecimal multiplicand) {
@@ -93,6 +98,15 @@ public class CurrencyAmount implements Comparable<CurrencyAmount> {
     return divide(BigDecimal.valueOf(divisor));
   }
 
+  /**
+   * Rounds the amount to the smallest cash unit of the currency, e.g. 0.05 for CHF.
+   */
+  public CurrencyAmount roundCash() {
+    CurrencyMetadata metadata = CurrencyRegistry.get(this.currency);
+    return new CurrencyAmount(Amount.of(metadata.getCashRounding().round(this.amount.getValue()),
+        this.amount.decimalPlaces()), this.currency);
+  }
+
   public CurrencyAmount negate() {
     return new CurrencyAmount(this.amount.negate(), this.currency);
   }
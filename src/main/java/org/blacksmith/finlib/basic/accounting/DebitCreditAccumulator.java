@@ -0,0 +1,65 @@
+package org.blacksmith.finlib.basic.accounting;
+
+import java.math.BigDecimal;
+
+import org.blacksmith.commons.arg.ArgChecker;
+import org.blacksmith.finlib.basic.numbers.AmountAccumulator;
+
+/**
+ * Mutable accumulator of debit and credit totals.
+ * <p>
+ * Totals are exact, the result is equal to folding the values with {@link DebitCredit#add(IDebitCredit)},
+ * but no intermediate {@link DebitCredit} instances are created.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class DebitCreditAccumulator {
+
+  private final AmountAccumulator dr = new AmountAccumulator();
+  private final AmountAccumulator cr = new AmountAccumulator();
+
+  public DebitCreditAccumulator add(IDebitCredit<?> value) {
+    ArgChecker.notNull(value, "Credit/Debit must be not null");
+    this.dr.add(value.getDr());
+    this.cr.add(value.getCr());
+    return this;
+  }
+
+  public DebitCreditAccumulator add(BigDecimal augendDr, BigDecimal augendCr) {
+    this.dr.add(augendDr);
+    this.cr.add(augendCr);
+    return this;
+  }
+
+  public DebitCreditAccumulator add(BigDecimal value, BookingSide side) {
+    return side == BookingSide.D ? add(value, BigDecimal.ZERO) : add(BigDecimal.ZERO, value);
+  }
+
+  public DebitCreditAccumulator addUnscaled(long unscaledDr, long unscaledCr, int scale) {
+    this.dr.addUnscaled(unscaledDr, scale);
+    this.cr.addUnscaled(unscaledCr, scale);
+    return this;
+  }
+
+  public DebitCreditAccumulator combine(DebitCreditAccumulator other) {
+    ArgChecker.notNull(other, "Accumulator must be not null");
+    this.dr.combine(other.dr);
+    this.cr.combine(other.cr);
+    return this;
+  }
+
+  public DebitCreditAccumulator reset() {
+    this.dr.reset();
+    this.cr.reset();
+    return this;
+  }
+
+  public DebitCredit toDebitCredit() {
+    return DebitCredit.of(this.dr.getExactValue(), this.cr.getExactValue());
+  }
+
+  @Override
+  public String toString() {
+    return "DebitCreditAccumulator{dr=" + this.dr.getExactValue() + ", cr=" + this.cr.getExactValue() + '}';
+  }
+}
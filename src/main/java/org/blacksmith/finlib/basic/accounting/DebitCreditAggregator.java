@@ -0,0 +1,135 @@
+package org.blacksmith.finlib.basic.accounting;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+import org.blacksmith.commons.arg.ArgChecker;
+
+/**
+ * Aggregates debit/credit postings into totals grouped by a key (e.g. account, currency).
+ * <p>
+ * Parallel aggregation splits postings into ranges processed as fork-join tasks,
+ * every task builds its own partial totals which are merged when tasks are joined.
+ *
+ * @param <P> the type of posting
+ * @param <K> the type of grouping key
+ */
+public final class DebitCreditAggregator<P, K> {
+
+  /**
+   * Default minimal number of postings processed by a single task.
+   */
+  public static final int DEFAULT_THRESHOLD = 8_192;
+
+  private final Function<? super P, ? extends K> keyFunction;
+  private final Function<? super P, ? extends IDebitCredit<?>> valueFunction;
+  private final int threshold;
+
+  private DebitCreditAggregator(Function<? super P, ? extends K> keyFunction,
+      Function<? super P, ? extends IDebitCredit<?>> valueFunction, int threshold) {
+    ArgChecker.notNull(keyFunction, "Key function must be not null");
+    ArgChecker.notNull(valueFunction, "Value function must be not null");
+    ArgChecker.isTrue(threshold > 0, "Threshold must be greater than zero");
+    this.keyFunction = keyFunction;
+    this.valueFunction = valueFunction;
+    this.threshold = threshold;
+  }
+
+  public static <P, K> DebitCreditAggregator<P, K> of(Function<? super P, ? extends K> keyFunction,
+      Function<? super P, ? extends IDebitCredit<?>> valueFunction) {
+    return new DebitCreditAggregator<>(keyFunction, valueFunction, DEFAULT_THRESHOLD);
+  }
+
+  public static <P extends IDebitCredit<?>, K> DebitCreditAggregator<P, K> of(
+      Function<? super P, ? extends K> keyFunction) {
+    return new DebitCreditAggregator<>(keyFunction, Function.identity(), DEFAULT_THRESHOLD);
+  }
+
+  public DebitCreditAggregator<P, K> withThreshold(int threshold) {
+    return new DebitCreditAggregator<>(this.keyFunction, this.valueFunction, threshold);
+  }
+
+  /**
+   * Aggregates postings in the calling thread.
+   *
+   * @param postings the postings
+   * @return the totals by key
+   */
+  public Map<K, DebitCredit> aggregate(List<? extends P> postings) {
+    ArgChecker.notNull(postings, "Postings must be not null");
+    return toDebitCredits(aggregateRange(postings, 0, postings.size()));
+  }
+
+  /**
+   * Aggregates postings in the common fork-join pool.
+   *
+   * @param postings the postings, random access list is expected
+   * @return the totals by key
+   */
+  public Map<K, DebitCredit> aggregateParallel(List<? extends P> postings) {
+    return aggregateParallel(postings, ForkJoinPool.commonPool());
+  }
+
+  public Map<K, DebitCredit> aggregateParallel(List<? extends P> postings, ForkJoinPool pool) {
+    ArgChecker.notNull(postings, "Postings must be not null");
+    ArgChecker.notNull(pool, "Pool must be not null");
+    if (postings.size() <= this.threshold) {
+      return aggregate(postings);
+    }
+    return toDebitCredits(pool.invoke(new AggregateTask(postings, 0, postings.size())));
+  }
+
+  private Map<K, DebitCreditAccumulator> aggregateRange(List<? extends P> postings, int from, int to) {
+    Map<K, DebitCreditAccumulator> totals = new HashMap<>();
+    for (int i = from; i < to; i++) {
+      P posting = postings.get(i);
+      totals.computeIfAbsent(this.keyFunction.apply(posting), k -> new DebitCreditAccumulator())
+          .add(this.valueFunction.apply(posting));
+    }
+    return totals;
+  }
+
+  private static <K> Map<K, DebitCreditAccumulator> merge(Map<K, DebitCreditAccumulator> totals1,
+      Map<K, DebitCreditAccumulator> totals2) {
+    Map<K, DebitCreditAccumulator> target = totals1.size() >= totals2.size() ? totals1 : totals2;
+    Map<K, DebitCreditAccumulator> source = target == totals1 ? totals2 : totals1;
+    source.forEach((key, accumulator) -> target.merge(key, accumulator, DebitCreditAccumulator::combine));
+    return target;
+  }
+
+  private static <K> Map<K, DebitCredit> toDebitCredits(Map<K, DebitCreditAccumulator> totals) {
+    Map<K, DebitCredit> result = new HashMap<>(totals.size() * 4 / 3 + 1);
+    totals.forEach((key, accumulator) -> result.put(key, accumulator.toDebitCredit()));
+    return result;
+  }
+
+  private final class AggregateTask extends RecursiveTask<Map<K, DebitCreditAccumulator>> {
+
+    private static final long serialVersionUID = 1L;
+    private final transient List<? extends P> postings;
+    private final int from;
+    private final int to;
+
+    private AggregateTask(List<? extends P> postings, int from, int to) {
+      this.postings = postings;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Map<K, DebitCreditAccumulator> compute() {
+      if (to - from <= threshold) {
+        return aggregateRange(postings, from, to);
+      }
+      int middle = (from + to) >>> 1;
+      AggregateTask left = new AggregateTask(postings, from, middle);
+      left.fork();
+      Map<K, DebitCreditAccumulator> right = new AggregateTask(postings, middle, to).compute();
+      return merge(left.join(), right);
+    }
+  }
+}
@@ -0,0 +1,238 @@
+package org.blacksmith.finlib.basic.accounting;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.blacksmith.commons.arg.ArgChecker;
+import org.blacksmith.finlib.basic.numbers.AmountAccumulator;
+import org.blacksmith.finlib.basic.numbers.DecimalRounded;
+import org.blacksmith.finlib.basic.numbers.FixedPoint;
+
+/**
+ * Concurrent register of debit/credit balances by key (e.g. account).
+ * <p>
+ * Debit and credit totals of every key are held as unscaled values with fixed decimal places
+ * in striped cells (like {@link LongAdder}), so concurrent postings to the same key do not contend.
+ * Posting values are rounded HALF_UP to decimal places of the register.
+ * <p>
+ * Every single-side posting is applied atomically, a snapshot contains each such posting either entirely or not at all.
+ * Snapshots taken while postings are in progress reflect postings completed before the snapshot
+ * and possibly some of the concurrent ones, the same as {@link LongAdder#sum()}.
+ * Cells are added with the overflow check of {@link FixedPoint#add(long, long)}, a posting which does not fit
+ * into its cell throws {@link ArithmeticException}. Snapshots sum the cells exactly with {@link AmountAccumulator}.
+ * <p>
+ * {@link #remove(Object)} must not run concurrently with postings to the same key, such postings may be lost.
+ *
+ * @param <K> the type of key
+ */
+public class DebitCreditRegister<K> {
+
+  private final ConcurrentHashMap<K, Balance> balances = new ConcurrentHashMap<>();
+  private final int decimalPlaces;
+  /**
+   * Balance of unknown keys, at decimal places of the register.
+   */
+  private final DebitCredit zero;
+
+  public DebitCreditRegister(int decimalPlaces) {
+    ArgChecker.isTrue(FixedPoint.isSupportedScale(decimalPlaces),
+        () -> "Invalid decimal places, must be from 0 to " + FixedPoint.MAX_SCALE + " inclusive");
+    this.decimalPlaces = decimalPlaces;
+    this.zero = DebitCredit.of(BigDecimal.valueOf(0, decimalPlaces), BigDecimal.valueOf(0, decimalPlaces));
+  }
+
+  public static <K> DebitCreditRegister<K> of(int decimalPlaces) {
+    return new DebitCreditRegister<>(decimalPlaces);
+  }
+
+  public int decimalPlaces() {
+    return this.decimalPlaces;
+  }
+
+  public void postDr(K key, BigDecimal value) {
+    postDrUnscaled(key, toUnscaled(value));
+  }
+
+  public void postDr(K key, DecimalRounded<?> value) {
+    postDrUnscaled(key, toUnscaled(value));
+  }
+
+  public void postDrUnscaled(K key, long unscaledValue) {
+    balance(key).dr.add(unscaledValue);
+  }
+
+  public void postCr(K key, BigDecimal value) {
+    postCrUnscaled(key, toUnscaled(value));
+  }
+
+  public void postCr(K key, DecimalRounded<?> value) {
+    postCrUnscaled(key, toUnscaled(value));
+  }
+
+  public void postCrUnscaled(K key, long unscaledValue) {
+    balance(key).cr.add(unscaledValue);
+  }
+
+  public void post(K key, BigDecimal value, BookingSide side) {
+    ArgChecker.notNull(side, "Booking side must be not null");
+    if (side == BookingSide.D) {
+      postDr(key, value);
+    } else {
+      postCr(key, value);
+    }
+  }
+
+  public void post(K key, DecimalRounded<?> value, BookingSide side) {
+    ArgChecker.notNull(side, "Booking side must be not null");
+    if (side == BookingSide.D) {
+      postDr(key, value);
+    } else {
+      postCr(key, value);
+    }
+  }
+
+  /**
+   * Posts both sides of the value, the sides are applied as two separate postings.
+   *
+   * @param key   the key
+   * @param value the debit/credit value
+   */
+  public void post(K key, IDebitCredit<?> value) {
+    ArgChecker.notNull(value, "Credit/Debit must be not null");
+    long unscaledDr = toUnscaled(value.getDr());
+    long unscaledCr = toUnscaled(value.getCr());
+    Balance balance = balance(key);
+    balance.dr.add(unscaledDr);
+    balance.cr.add(unscaledCr);
+  }
+
+  public boolean contains(K key) {
+    return this.balances.containsKey(key);
+  }
+
+  public DebitCredit snapshot(K key) {
+    Balance balance = this.balances.get(key);
+    return balance == null ? this.zero : balance.toDebitCredit(this.decimalPlaces);
+  }
+
+  public Map<K, DebitCredit> snapshot() {
+    Map<K, DebitCredit> result = new HashMap<>(this.balances.size() * 4 / 3 + 1);
+    this.balances.forEach((key, balance) -> result.put(key, balance.toDebitCredit(this.decimalPlaces)));
+    return result;
+  }
+
+  /**
+   * Removes balance of the key. Must not be called concurrently with postings to the same key.
+   *
+   * @param key the key
+   * @return the last balance, zero if the key was not registered
+   */
+  public DebitCredit remove(K key) {
+    Balance balance = this.balances.remove(key);
+    return balance == null ? this.zero : balance.toDebitCredit(this.decimalPlaces);
+  }
+
+  public int size() {
+    return this.balances.size();
+  }
+
+  private Balance balance(K key) {
+    ArgChecker.notNull(key, "Key must be not null");
+    Balance balance = this.balances.get(key);
+    return balance != null ? balance : this.balances.computeIfAbsent(key, k -> new Balance());
+  }
+
+  private long toUnscaled(BigDecimal value) {
+    ArgChecker.notNull(value, "Value must be not null");
+    return checkOverflow(FixedPoint.valueOf(value, this.decimalPlaces));
+  }
+
+  private long toUnscaled(DecimalRounded<?> value) {
+    ArgChecker.notNull(value, "Value must be not null");
+    if (value.isCompact()) {
+      return checkOverflow(FixedPoint.rescale(value.unscaledValue(), value.decimalPlaces(), this.decimalPlaces));
+    }
+    return toUnscaled(value.getValue());
+  }
+
+  private static long checkOverflow(long value) {
+    if (value == FixedPoint.INFLATED) {
+      throw new ArithmeticException("Value does not fit into register");
+    }
+    return value;
+  }
+
+  private static final class Balance {
+    private final Total dr = new Total();
+    private final Total cr = new Total();
+
+    private DebitCredit toDebitCredit(int decimalPlaces) {
+      return DebitCredit.of(dr.sum(decimalPlaces), cr.sum(decimalPlaces));
+    }
+  }
+
+  /**
+   * Unscaled total in striped cells, created on first contention. Unlike {@link LongAdder} a cell is updated
+   * by compare-and-set of the checked sum, so it never wraps silently.
+   */
+  private static final class Total {
+    private static final int STRIPES =
+        Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1;
+    // longs per cache line, cells are padded to avoid false sharing
+    private static final int PADDING = 8;
+
+    private final AtomicLong base = new AtomicLong();
+    private volatile AtomicLongArray cells;
+
+    private void add(long value) {
+      AtomicLongArray cs = this.cells;
+      if (cs == null) {
+        long current = this.base.get();
+        if (this.base.compareAndSet(current, checkedAdd(current, value))) {
+          return;
+        }
+        cs = cells();
+      }
+      int index = stripe() * PADDING;
+      long current;
+      do {
+        current = cs.get(index);
+      } while (!cs.compareAndSet(index, current, checkedAdd(current, value)));
+    }
+
+    private BigDecimal sum(int decimalPlaces) {
+      AmountAccumulator sum = AmountAccumulator.of(decimalPlaces).addUnscaled(this.base.get(), decimalPlaces);
+      AtomicLongArray cs = this.cells;
+      if (cs != null) {
+        for (int i = 0; i < cs.length(); i += PADDING) {
+          sum.addUnscaled(cs.get(i), decimalPlaces);
+        }
+      }
+      return sum.getExactValue();
+    }
+
+    private synchronized AtomicLongArray cells() {
+      if (this.cells == null) {
+        this.cells = new AtomicLongArray(STRIPES * PADDING);
+      }
+      return this.cells;
+    }
+
+    private static int stripe() {
+      return (int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 32) & (STRIPES - 1);
+    }
+
+    private static long checkedAdd(long current, long value) {
+      long sum = FixedPoint.add(current, value);
+      if (sum == FixedPoint.INFLATED) {
+        throw new ArithmeticException("Total does not fit into register");
+      }
+      return sum;
+    }
+  }
+}
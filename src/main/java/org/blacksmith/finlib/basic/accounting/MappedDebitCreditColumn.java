@@ -0,0 +1,208 @@
+package org.blacksmith.finlib.basic.accounting;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.Collection;
+
+import org.blacksmith.commons.arg.ArgChecker;
+import org.blacksmith.finlib.basic.numbers.FixedPoint;
+import org.blacksmith.finlib.basic.numbers.MappedColumn;
+
+/**
+ * Memory-mapped column of debit/credit pairs with fixed decimal places.
+ * <p>
+ * {@link #get(int)} returns a lightweight view reading the mapped file on demand,
+ * {@link BigDecimal} values are created only when requested.
+ *
+ * @see MappedColumn
+ */
+public class MappedDebitCreditColumn extends MappedColumn {
+
+  private static final int MAGIC = 0x42534443; // BSDC
+  private static final int DR = 0;
+  private static final int CR = 1;
+
+  private MappedDebitCreditColumn(Path path, int size, int decimalPlaces) throws IOException {
+    super(path, MAGIC, 2, size, decimalPlaces);
+  }
+
+  private MappedDebitCreditColumn(Path path, boolean readOnly) throws IOException {
+    super(path, MAGIC, 2, readOnly);
+  }
+
+  /**
+   * Creates a new column filled with zeros.
+   *
+   * @param path          the file
+   * @param size          the number of debit/credit pairs
+   * @param decimalPlaces the decimal places of stored values
+   * @return the writable column
+   * @throws IOException if the file can not be created
+   */
+  public static MappedDebitCreditColumn create(Path path, int size, int decimalPlaces) throws IOException {
+    return new MappedDebitCreditColumn(path, size, decimalPlaces);
+  }
+
+  /**
+   * Creates a new column of the values, the values are validated before the file is created.
+   *
+   * @param path          the file
+   * @param values        the debit/credit pairs
+   * @param decimalPlaces the decimal places of stored values
+   * @return the writable column
+   * @throws IOException if the file can not be created
+   */
+  public static MappedDebitCreditColumn write(Path path, Collection<? extends IDebitCredit<?>> values,
+      int decimalPlaces) throws IOException {
+    ArgChecker.notNull(values, "Values must be not null");
+    ArgChecker.isTrue(FixedPoint.isSupportedScale(decimalPlaces),
+        () -> "Invalid decimal places, must be from 0 to " + FixedPoint.MAX_SCALE + " inclusive");
+    long[] unscaledValues = new long[values.size() * 2];
+    int i = 0;
+    for (IDebitCredit<?> value : values) {
+      ArgChecker.notNull(value, "Credit/Debit must be not null");
+      unscaledValues[i++] = checkUnscaled(FixedPoint.valueOf(value.getDr(), decimalPlaces));
+      unscaledValues[i++] = checkUnscaled(FixedPoint.valueOf(value.getCr(), decimalPlaces));
+    }
+    MappedDebitCreditColumn column = create(path, values.size(), decimalPlaces);
+    try {
+      for (int j = 0; j < column.size(); j++) {
+        column.setUnscaled(j, unscaledValues[2 * j], unscaledValues[2 * j + 1]);
+      }
+      column.force();
+    } catch (RuntimeException e) {
+      column.close();
+      throw e;
+    }
+    return column;
+  }
+
+  public static MappedDebitCreditColumn open(Path path) throws IOException {
+    return new MappedDebitCreditColumn(path, false);
+  }
+
+  public static MappedDebitCreditColumn openReadOnly(Path path) throws IOException {
+    return new MappedDebitCreditColumn(path, true);
+  }
+
+  /**
+   * Gets a view of the debit/credit pair, the view reflects later changes of the column.
+   *
+   * @param index the index
+   * @return the view
+   */
+  public IDebitCredit<DebitCredit> get(int index) {
+    ArgChecker.isTrue(index >= 0 && index < size(), () -> "Index " + index + " out of bounds for size " + size());
+    return new View(index);
+  }
+
+  public DebitCredit getDebitCredit(int index) {
+    return DebitCredit.of(getDr(index), getCr(index));
+  }
+
+  /**
+   * Gets the debit value.
+   *
+   * @param index the index
+   * @return the debit value
+   * @throws ArithmeticException if the cell contains {@link FixedPoint#INFLATED} value
+   */
+  public BigDecimal getDr(int index) {
+    return BigDecimal.valueOf(getValidUnscaled(index, DR), decimalPlaces());
+  }
+
+  /**
+   * Gets the credit value.
+   *
+   * @param index the index
+   * @return the credit value
+   * @throws ArithmeticException if the cell contains {@link FixedPoint#INFLATED} value
+   */
+  public BigDecimal getCr(int index) {
+    return BigDecimal.valueOf(getValidUnscaled(index, CR), decimalPlaces());
+  }
+
+  public long getDrUnscaled(int index) {
+    return getUnscaled(index, DR);
+  }
+
+  public long getCrUnscaled(int index) {
+    return getUnscaled(index, CR);
+  }
+
+  public void set(int index, IDebitCredit<?> value) {
+    ArgChecker.notNull(value, "Credit/Debit must be not null");
+    setUnscaled(index, FixedPoint.valueOf(value.getDr(), decimalPlaces()),
+        FixedPoint.valueOf(value.getCr(), decimalPlaces()));
+  }
+
+  public void setUnscaled(int index, long unscaledDr, long unscaledCr) {
+    putUnscaled(index, DR, unscaledDr);
+    putUnscaled(index, CR, unscaledCr);
+  }
+
+  private final class View implements IDebitCredit<DebitCredit> {
+
+    private final int index;
+
+    private View(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public BigDecimal getDr() {
+      return MappedDebitCreditColumn.this.getDr(index);
+    }
+
+    @Override
+    public BigDecimal getCr() {
+      return MappedDebitCreditColumn.this.getCr(index);
+    }
+
+    @Override
+    public boolean isZero() {
+      return getDrUnscaled(index) == 0 && getCrUnscaled(index) == 0;
+    }
+
+    @Override
+    public DebitCredit add(IDebitCredit augend) {
+      return clone().add(augend);
+    }
+
+    @Override
+    public DebitCredit add(BigDecimal augendDr, BigDecimal augendCr) {
+      return clone().add(augendDr, augendCr);
+    }
+
+    @Override
+    public DebitCredit subtract(IDebitCredit subtrahend) {
+      return clone().subtract(subtrahend);
+    }
+
+    @Override
+    public DebitCredit subtract(BigDecimal subtrahendDr, BigDecimal subtrahendCr) {
+      return clone().subtract(subtrahendDr, subtrahendCr);
+    }
+
+    @Override
+    public DebitCredit swap() {
+      return clone().swap();
+    }
+
+    @Override
+    public DebitCredit negate() {
+      return clone().negate();
+    }
+
+    @Override
+    public DebitCredit clone() {
+      return getDebitCredit(index);
+    }
+
+    @Override
+    public String toString() {
+      return "CreditDebit{dr=" + getDr() + ", cr=" + getCr() + '}';
+    }
+  }
+}
@@ -0,0 +1,239 @@
+package org.blacksmith.finlib.basic.accounting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.blacksmith.commons.arg.ArgChecker;
+import org.blacksmith.finlib.basic.currency.Currency;
+import org.blacksmith.finlib.basic.currency.CurrencyRegistry;
+import org.blacksmith.finlib.basic.numbers.Amount;
+import org.blacksmith.finlib.basic.numbers.AmountAccumulator;
+import org.blacksmith.finlib.basic.rate.CurrencyConverter;
+import org.blacksmith.finlib.basic.rate.FxRateMatrix;
+
+/**
+ * Immutable amounts in multiple currencies, at most one amount per currency.
+ * <p>
+ * Amounts are stored in an array indexed by currency ordinal, so adding or subtracting
+ * an amount is an array lookup and copy, without maps or boxing.
+ * Amounts of the same currency are added keeping decimal places of the amount already held.
+ */
+public final class MultiCurrencyAmount {
+
+  public static final MultiCurrencyAmount EMPTY = new MultiCurrencyAmount(new Amount[0], 0);
+
+  // indexed by currency ordinal, null when there is no amount in the currency
+  private final Amount[] amounts;
+  private final int size;
+
+  private MultiCurrencyAmount(Amount[] amounts, int size) {
+    this.amounts = amounts;
+    this.size = size;
+  }
+
+  public static MultiCurrencyAmount empty() {
+    return EMPTY;
+  }
+
+  public static MultiCurrencyAmount of(CurrencyAmount... amounts) {
+    ArgChecker.notNull(amounts, "Amounts must be not null");
+    return of(Arrays.asList(amounts));
+  }
+
+  /**
+   * Creates amounts summing amounts of the same currency.
+   *
+   * @param amounts the amounts
+   * @return the multi currency amount
+   */
+  public static MultiCurrencyAmount of(Collection<CurrencyAmount> amounts) {
+    ArgChecker.notNull(amounts, "Amounts must be not null");
+    Amount[] result = new Amount[Currency.count()];
+    for (CurrencyAmount amount : amounts) {
+      ArgChecker.notNull(amount, "Amount must be not null");
+      result = accumulate(result, amount.getCurrency().getOrdinal(), amount.getAmount(), false);
+    }
+    return create(result);
+  }
+
+  public int size() {
+    return this.size;
+  }
+
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  public boolean contains(Currency currency) {
+    ArgChecker.notNull(currency, "Currency must be not null");
+    return amount(currency.getOrdinal()) != null;
+  }
+
+  public Optional<CurrencyAmount> findAmount(Currency currency) {
+    ArgChecker.notNull(currency, "Currency must be not null");
+    Amount amount = amount(currency.getOrdinal());
+    return amount != null ? Optional.of(new CurrencyAmount(amount, currency)) : Optional.empty();
+  }
+
+  /**
+   * Gets amount in the currency, zero when there is no amount in the currency.
+   */
+  public CurrencyAmount getAmount(Currency currency) {
+    ArgChecker.notNull(currency, "Currency must be not null");
+    Amount amount = amount(currency.getOrdinal());
+    return amount != null ? new CurrencyAmount(amount, currency) : CurrencyAmount.of(0L, currency);
+  }
+
+  /**
+   * Gets currencies in order of currency ordinals.
+   */
+  public List<Currency> getCurrencies() {
+    List<Currency> currencies = new ArrayList<>(this.size);
+    for (int i = 0; i < this.amounts.length; i++) {
+      if (this.amounts[i] != null) {
+        currencies.add(Currency.ofOrdinal(i));
+      }
+    }
+    return Collections.unmodifiableList(currencies);
+  }
+
+  /**
+   * Gets amounts in order of currency ordinals.
+   */
+  public List<CurrencyAmount> getAmounts() {
+    List<CurrencyAmount> result = new ArrayList<>(this.size);
+    for (int i = 0; i < this.amounts.length; i++) {
+      if (this.amounts[i] != null) {
+        result.add(new CurrencyAmount(this.amounts[i], Currency.ofOrdinal(i)));
+      }
+    }
+    return Collections.unmodifiableList(result);
+  }
+
+  public MultiCurrencyAmount add(CurrencyAmount augend) {
+    ArgChecker.notNull(augend, "Augend must be not null");
+    return create(accumulate(this.amounts.clone(), augend.getCurrency().getOrdinal(), augend.getAmount(), false));
+  }
+
+  public MultiCurrencyAmount add(MultiCurrencyAmount augend) {
+    ArgChecker.notNull(augend, "Augend must be not null");
+    return combine(augend, false);
+  }
+
+  public MultiCurrencyAmount subtract(CurrencyAmount subtrahend) {
+    ArgChecker.notNull(subtrahend, "Subtrahend must be not null");
+    return create(accumulate(this.amounts.clone(), subtrahend.getCurrency().getOrdinal(), subtrahend.getAmount(), true));
+  }
+
+  public MultiCurrencyAmount subtract(MultiCurrencyAmount subtrahend) {
+    ArgChecker.notNull(subtrahend, "Subtrahend must be not null");
+    return combine(subtrahend, true);
+  }
+
+  public MultiCurrencyAmount negate() {
+    Amount[] result = new Amount[this.amounts.length];
+    for (int i = 0; i < result.length; i++) {
+      if (this.amounts[i] != null) {
+        result[i] = this.amounts[i].negate();
+      }
+    }
+    return new MultiCurrencyAmount(result, this.size);
+  }
+
+  /**
+   * Converts all amounts to the target currency and sums them.
+   * Each amount is converted as by {@link CurrencyConverter#convert(CurrencyAmount)}.
+   *
+   * @param rates  the FX rates
+   * @param target the target currency
+   * @return the sum in the target currency
+   */
+  public CurrencyAmount convert(FxRateMatrix rates, Currency target) {
+    return convert(CurrencyConverter.of(rates, target));
+  }
+
+  public CurrencyAmount convert(CurrencyConverter converter) {
+    ArgChecker.notNull(converter, "Currency converter must be not null");
+    Currency target = converter.getTarget();
+    AmountAccumulator total = AmountAccumulator.of(CurrencyRegistry.getMinorUnits(target));
+    for (int i = 0; i < this.amounts.length; i++) {
+      if (this.amounts[i] != null) {
+        total.add(converter.convert(new CurrencyAmount(this.amounts[i], Currency.ofOrdinal(i))).getAmount());
+      }
+    }
+    return new CurrencyAmount(total.toAmount(), target);
+  }
+
+  private Amount amount(int ordinal) {
+    return ordinal < this.amounts.length ? this.amounts[ordinal] : null;
+  }
+
+  private MultiCurrencyAmount combine(MultiCurrencyAmount other, boolean subtract) {
+    if (other.isEmpty()) {
+      return this;
+    }
+    Amount[] result = Arrays.copyOf(this.amounts, Math.max(this.amounts.length, other.amounts.length));
+    for (int i = 0; i < other.amounts.length; i++) {
+      if (other.amounts[i] != null) {
+        result = accumulate(result, i, other.amounts[i], subtract);
+      }
+    }
+    return create(result);
+  }
+
+  /**
+   * Adds the amount to the array, the array is extended if needed.
+   */
+  private static Amount[] accumulate(Amount[] amounts, int ordinal, Amount amount, boolean subtract) {
+    Amount[] result = ordinal < amounts.length ? amounts : Arrays.copyOf(amounts, Currency.count());
+    Amount current = result[ordinal];
+    if (current == null) {
+      result[ordinal] = subtract ? amount.negate() : amount;
+    } else {
+      result[ordinal] = subtract ? current.subtract(amount) : current.add(amount);
+    }
+    return result;
+  }
+
+  private static MultiCurrencyAmount create(Amount[] amounts) {
+    int length = amounts.length;
+    while (length > 0 && amounts[length - 1] == null) {
+      length--;
+    }
+    int size = 0;
+    for (int i = 0; i < length; i++) {
+      if (amounts[i] != null) {
+        size++;
+      }
+    }
+    if (size == 0) {
+      return EMPTY;
+    }
+    return new MultiCurrencyAmount(length == amounts.length ? amounts : Arrays.copyOf(amounts, length), size);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(this.amounts);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (o == null || getClass() != o.getClass())
+      return false;
+    return Arrays.equals(this.amounts, ((MultiCurrencyAmount) o).amounts);
+  }
+
+  @Override
+  public String toString() {
+    return "MultiCurrencyAmount{" +
+        "amounts=" + getAmounts() +
+        '}';
+  }
+}
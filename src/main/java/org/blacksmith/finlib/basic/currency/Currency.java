@@ -1,7 +1,10 @@
 package org.blacksmith.finlib.basic.currency;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.blacksmith.commons.arg.ArgChecker;
 import org.slf4j.Logger;
@@ -12,12 +15,24 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 import lombok.EqualsAndHashCode;
 
+/**
+ * Currency identified by three characters code.
+ * <p>
+ * Currencies are interned, there is only one instance for a code. Codes of three uppercase letters,
+ * e.g. ISO 4217 codes, are looked up by index in an array, other codes in a map.
+ * Every currency has a dense ordinal, assigned in order of creation, which can be used as an array index.
+ */
 @EqualsAndHashCode
 public class Currency implements Comparable<Currency> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(Currency.class);
 
+  private static final int LETTERS = 26;
+  private static final AtomicReferenceArray<Currency> BY_INDEX = new AtomicReferenceArray<>(LETTERS * LETTERS * LETTERS);
   private static final Map<String, Currency> CURRENCIES = new ConcurrentHashMap<>();
+  // published by the count write, elements up to count are set
+  private static volatile Currency[] byOrdinal = new Currency[64];
+  private static volatile int count;
 
   public static final Currency EUR = Currency.of("EUR");
   public static final Currency USD = Currency.of("USD");
@@ -28,21 +43,84 @@ public class Currency implements Comparable<Currency> {
 
   @JsonValue
   private final String currencyCode;
+  private final int ordinal;
 
-  private Currency(final String currencyCode) {
+  private Currency(final String currencyCode, final int ordinal) {
     ArgChecker.checkStringLength(currencyCode, 3, "Currency iso code must have length 3");
     this.currencyCode = currencyCode;
+    this.ordinal = ordinal;
   }
 
   @JsonCreator
   public static Currency of(String currencyCode) {
-    return CURRENCIES.computeIfAbsent(currencyCode, Currency::new);
+    if (currencyCode != null && currencyCode.length() == 3) {
+      int index = index(currencyCode.charAt(0), currencyCode.charAt(1), currencyCode.charAt(2));
+      if (index >= 0) {
+        Currency currency = BY_INDEX.get(index);
+        return currency != null ? currency : create(currencyCode, index);
+      }
+    }
+    Currency currency = CURRENCIES.get(currencyCode);
+    return currency != null ? currency : create(currencyCode, -1);
+  }
+
+  public static Currency of(char c1, char c2, char c3) {
+    int index = index(c1, c2, c3);
+    if (index >= 0) {
+      Currency currency = BY_INDEX.get(index);
+      if (currency != null) {
+        return currency;
+      }
+    }
+    return of(new String(new char[] { c1, c2, c3 }));
+  }
+
+  /**
+   * Gets currency of the code given as three ASCII bytes.
+   *
+   * @param ascii  the bytes
+   * @param offset the offset of the code
+   * @return the currency
+   */
+  public static Currency of(byte[] ascii, int offset) {
+    ArgChecker.notNull(ascii, "Bytes must be not null");
+    ArgChecker.isTrue(offset >= 0 && offset + 3 <= ascii.length, "Currency code out of bounds");
+    int index = index((char) (ascii[offset] & 0xff), (char) (ascii[offset + 1] & 0xff), (char) (ascii[offset + 2] & 0xff));
+    if (index >= 0) {
+      Currency currency = BY_INDEX.get(index);
+      if (currency != null) {
+        return currency;
+      }
+    }
+    return of(new String(ascii, offset, 3, StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * Gets number of currencies created so far, ordinals are from 0 to count - 1.
+   */
+  public static int count() {
+    return count;
+  }
+
+  /**
+   * Gets currency of the ordinal.
+   *
+   * @param ordinal the ordinal, from 0 to {@link #count()} - 1
+   * @return the currency
+   */
+  public static Currency ofOrdinal(int ordinal) {
+    ArgChecker.isTrue(ordinal >= 0 && ordinal < count, () -> "Invalid currency ordinal: " + ordinal);
+    return byOrdinal[ordinal];
   }
 
   public String getCurrencyCode() {
     return this.currencyCode;
   }
 
+  public int getOrdinal() {
+    return this.ordinal;
+  }
+
   @Override
   public String toString() {
     return "(isoCode=" + this.currencyCode + ")";
@@ -52,4 +130,34 @@ public class Currency implements Comparable<Currency> {
   public int compareTo(Currency o) {
     return this.currencyCode.compareTo(o.currencyCode);
   }
+
+  private static synchronized Currency create(String currencyCode, int index) {
+    Currency currency = index >= 0 ? BY_INDEX.get(index) : CURRENCIES.get(currencyCode);
+    if (currency == null) {
+      currency = new Currency(currencyCode, count);
+      if (index >= 0) {
+        BY_INDEX.set(index, currency);
+      }
+      CURRENCIES.put(currencyCode, currency);
+      Currency[] currencies = byOrdinal;
+      if (count == currencies.length) {
+        currencies = Arrays.copyOf(currencies, currencies.length * 2);
+      }
+      currencies[count] = currency;
+      byOrdinal = currencies;
+      count++;
+      LOGGER.trace("Created currency {}", currencyCode);
+    }
+    return currency;
+  }
+
+  private static int index(char c1, char c2, char c3) {
+    int i1 = c1 - 'A';
+    int i2 = c2 - 'A';
+    int i3 = c3 - 'A';
+    if ((i1 | i2 | i3) < 0 || i1 >= LETTERS || i2 >= LETTERS || i3 >= LETTERS) {
+      return -1;
+    }
+    return (i1 * LETTERS + i2) * LETTERS + i3;
+  }
 }
@@ -0,0 +1,72 @@
+package org.blacksmith.finlib.basic.currency;
+
+import java.math.BigDecimal;
+
+import org.blacksmith.commons.arg.ArgChecker;
+import org.blacksmith.finlib.basic.numbers.FixedPoint;
+import org.blacksmith.finlib.basic.rounding.Rounding;
+import org.blacksmith.finlib.basic.rounding.RoundingFactory;
+import org.blacksmith.finlib.basic.rounding.RoundingMode;
+
+import lombok.Getter;
+
+/**
+ * Currency metadata: number of minor units (decimal places) and cash rounding.
+ */
+@Getter
+public class CurrencyMetadata {
+
+  private final Currency currency;
+  private final int minorUnits;
+  private final BigDecimal cashIncrement;
+  private final Rounding rounding;
+  private final Rounding cashRounding;
+
+  public CurrencyMetadata(Currency currency, int minorUnits, BigDecimal cashIncrement) {
+    ArgChecker.notNull(currency, "Currency must be not null");
+    ArgChecker.isTrue(minorUnits >= 0 && minorUnits <= 18, "Minor units must be from 0 to 18 inclusive");
+    ArgChecker.notNull(cashIncrement, "Cash increment must be not null");
+    ArgChecker.isTrue(cashIncrement.signum() > 0, "Cash increment must be positive");
+    this.currency = currency;
+    this.minorUnits = minorUnits;
+    this.cashIncrement = cashIncrement;
+    this.rounding = RoundingFactory.of(RoundingMode.UP, minorUnits);
+    this.cashRounding = cashRounding(cashIncrement);
+  }
+
+  public CurrencyMetadata(Currency currency, int minorUnits) {
+    this(currency, minorUnits, BigDecimal.ONE.movePointLeft(minorUnits));
+  }
+
+  public static CurrencyMetadata of(Currency currency) {
+    return CurrencyRegistry.get(currency);
+  }
+
+  @Override
+  public String toString() {
+    return "CurrencyMetadata{" +
+        "currency=" + currency +
+        ", minorUnits=" + minorUnits +
+        ", cashIncrement=" + cashIncrement +
+        '}';
+  }
+
+  /**
+   * Creates rounding to multiples of the increment, the increment {@code k * 10^-n} is expressed
+   * as rounding to 1/fraction of decimal places, where {@code fraction = 10^m / k}.
+   */
+  private static Rounding cashRounding(BigDecimal increment) {
+    BigDecimal stripped = increment.stripTrailingZeros();
+    ArgChecker.isTrue(stripped.precision() <= FixedPoint.MAX_SCALE, () -> "Unsupported cash increment: " + increment);
+    long k = stripped.unscaledValue().longValueExact();
+    // the smallest 10^m divisible by k, there is none if k has prime factors other than 2 and 5
+    long power = 1;
+    int m = 0;
+    while (power % k != 0 && m < FixedPoint.MAX_SCALE) {
+      power *= 10;
+      m++;
+    }
+    ArgChecker.isTrue(power % k == 0 && power / k <= 256, () -> "Unsupported cash increment: " + increment);
+    return RoundingFactory.of(RoundingMode.UP, stripped.scale() - m, (int) (power / k));
+  }
+}
@@ -1,8 +1,7 @@
 package org.blacksmith.finlib.basic.currency;
 
-import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 import org.blacksmith.commons.arg.ArgChecker;
 
@@ -10,12 +9,21 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 
+/**
+ * Pair of currencies, e.g. EUR/USD.
+ * <p>
+ * Pairs created by the factory methods are interned in a table indexed by ordinals of the currencies,
+ * so equal pairs are the same instance.
+ */
 @Getter
 @EqualsAndHashCode
 @ToString
 public class CurrencyPair {
 
-  static final Pattern REGEX_PATTERN = Pattern.compile("([A-Z0-9]{3})/([A-Z0-9]{3})");
+  private static final int PAIR_LENGTH = 7;
+  private static final char SEPARATOR = '/';
+  // interned pairs by base and counter ordinal, rows and the table are copied on growth
+  private static volatile CurrencyPair[][] pairs = new CurrencyPair[0][];
 
   private final Currency base;
   private final Currency counter;
@@ -27,18 +35,127 @@ public class CurrencyPair {
     this.counter = counter;
   }
 
+  public static CurrencyPair of(Currency base, Currency counter) {
+    ArgChecker.notNull(base, "base");
+    ArgChecker.notNull(counter, "counter");
+    CurrencyPair[][] table = pairs;
+    int baseOrdinal = base.getOrdinal();
+    int counterOrdinal = counter.getOrdinal();
+    if (baseOrdinal < table.length) {
+      CurrencyPair[] row = table[baseOrdinal];
+      if (row != null && counterOrdinal < row.length) {
+        CurrencyPair pair = row[counterOrdinal];
+        if (pair != null) {
+          return pair;
+        }
+      }
+    }
+    return intern(base, counter);
+  }
+
   public static CurrencyPair of(String base, String counter) {
-    return new CurrencyPair(Currency.of(base), Currency.of(counter));
+    return of(Currency.of(base), Currency.of(counter));
   }
 
-  public static CurrencyPair of(String pair) {
+  /**
+   * Parses a pair in format {@code AAA/BBB}, letters are case-insensitive.
+   *
+   * @param pair the text
+   * @return the interned pair
+   */
+  public static CurrencyPair of(CharSequence pair) {
     ArgChecker.notNull(pair, "pairStr");
-    Matcher matcher = REGEX_PATTERN.matcher(pair.toUpperCase(Locale.ENGLISH));
-    if (!matcher.matches()) {
+    if (pair.length() != PAIR_LENGTH) {
+      throw new IllegalArgumentException("Invalid currency pair: " + pair);
+    }
+    CurrencyPair result = parse(pair.charAt(0), pair.charAt(1), pair.charAt(2), pair.charAt(3),
+        pair.charAt(4), pair.charAt(5), pair.charAt(6));
+    if (result == null) {
       throw new IllegalArgumentException("Invalid currency pair: " + pair);
     }
-    Currency base = Currency.of(matcher.group(1));
-    Currency counter = Currency.of(matcher.group(2));
-    return new CurrencyPair(base, counter);
+    return result;
+  }
+
+  public static CurrencyPair of(String pair) {
+    return of((CharSequence) pair);
+  }
+
+  /**
+   * Parses a pair in format {@code AAA/BBB} given as ASCII bytes, letters are case-insensitive.
+   *
+   * @param ascii  the bytes
+   * @param offset the offset of the pair
+   * @return the interned pair
+   */
+  public static CurrencyPair of(byte[] ascii, int offset) {
+    ArgChecker.notNull(ascii, "Bytes must be not null");
+    ArgChecker.isTrue(offset >= 0 && offset + PAIR_LENGTH <= ascii.length, "Currency pair out of bounds");
+    CurrencyPair result = parse(ascii(ascii, offset), ascii(ascii, offset + 1), ascii(ascii, offset + 2),
+        ascii(ascii, offset + 3), ascii(ascii, offset + 4), ascii(ascii, offset + 5), ascii(ascii, offset + 6));
+    if (result == null) {
+      throw new IllegalArgumentException("Invalid currency pair: "
+          + new String(ascii, offset, PAIR_LENGTH, StandardCharsets.US_ASCII));
+    }
+    return result;
+  }
+
+  public CurrencyPair inverse() {
+    return of(this.counter, this.base);
+  }
+
+  private static CurrencyPair parse(char b1, char b2, char b3, char separator, char c1, char c2, char c3) {
+    b1 = codeChar(b1);
+    b2 = codeChar(b2);
+    b3 = codeChar(b3);
+    c1 = codeChar(c1);
+    c2 = codeChar(c2);
+    c3 = codeChar(c3);
+    if (separator != SEPARATOR || b1 == 0 || b2 == 0 || b3 == 0 || c1 == 0 || c2 == 0 || c3 == 0) {
+      return null;
+    }
+    return of(Currency.of(b1, b2, b3), Currency.of(c1, c2, c3));
+  }
+
+  private static char ascii(byte[] bytes, int index) {
+    return (char) (bytes[index] & 0xff);
+  }
+
+  /**
+   * Converts a character of currency code to upper case, returns 0 for invalid characters.
+   */
+  private static char codeChar(char c) {
+    if (c >= 'a' && c <= 'z') {
+      return (char) (c - 'a' + 'A');
+    }
+    if ((c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+      return c;
+    }
+    return 0;
+  }
+
+  private static synchronized CurrencyPair intern(Currency base, Currency counter) {
+    CurrencyPair[][] table = pairs;
+    int baseOrdinal = base.getOrdinal();
+    int counterOrdinal = counter.getOrdinal();
+    if (baseOrdinal >= table.length) {
+      table = Arrays.copyOf(table, Math.max(baseOrdinal + 1, Currency.count()));
+    } else {
+      table = table.clone();
+    }
+    CurrencyPair[] row = table[baseOrdinal];
+    if (row == null) {
+      row = new CurrencyPair[Math.max(counterOrdinal + 1, Currency.count())];
+    } else if (counterOrdinal >= row.length) {
+      row = Arrays.copyOf(row, Math.max(counterOrdinal + 1, Currency.count()));
+    } else if (row[counterOrdinal] != null) {
+      return row[counterOrdinal];
+    } else {
+      row = row.clone();
+    }
+    CurrencyPair pair = new CurrencyPair(base, counter);
+    row[counterOrdinal] = pair;
+    table[baseOrdinal] = row;
+    pairs = table;
+    return pair;
   }
 }
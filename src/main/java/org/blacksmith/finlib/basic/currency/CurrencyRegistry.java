@@ -0,0 +1,92 @@
+package org.blacksmith.finlib.basic.currency;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.blacksmith.commons.arg.ArgChecker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of currency metadata, loaded once from the bundled ISO 4217 table {@code iso4217.csv}.
+ * <p>
+ * Currencies missing in the table have {@link #DEFAULT_MINOR_UNITS} minor units.
+ */
+public final class CurrencyRegistry {
+
+  public static final int DEFAULT_MINOR_UNITS = 2;
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CurrencyRegistry.class);
+  private static final String RESOURCE = "iso4217.csv";
+  private static final Map<Currency, CurrencyMetadata> METADATA = load();
+  // metadata by currency ordinal
+  private static final CurrencyMetadata[] BY_ORDINAL = byOrdinal(METADATA);
+
+  private CurrencyRegistry() {
+  }
+
+  public static CurrencyMetadata get(Currency currency) {
+    CurrencyMetadata metadata = find(currency);
+    return metadata != null ? metadata : new CurrencyMetadata(currency, DEFAULT_MINOR_UNITS);
+  }
+
+  public static int getMinorUnits(Currency currency) {
+    CurrencyMetadata metadata = find(currency);
+    return metadata != null ? metadata.getMinorUnits() : DEFAULT_MINOR_UNITS;
+  }
+
+  public static boolean contains(Currency currency) {
+    return find(currency) != null;
+  }
+
+  public static Map<Currency, CurrencyMetadata> getAll() {
+    return METADATA;
+  }
+
+  private static CurrencyMetadata find(Currency currency) {
+    ArgChecker.notNull(currency, "Currency must be not null");
+    int ordinal = currency.getOrdinal();
+    return ordinal < BY_ORDINAL.length ? BY_ORDINAL[ordinal] : null;
+  }
+
+  private static CurrencyMetadata[] byOrdinal(Map<Currency, CurrencyMetadata> metadata) {
+    CurrencyMetadata[] result = new CurrencyMetadata[Currency.count()];
+    metadata.forEach((currency, value) -> result[currency.getOrdinal()] = value);
+    return result;
+  }
+
+  private static Map<Currency, CurrencyMetadata> load() {
+    Map<Currency, CurrencyMetadata> metadata = new HashMap<>();
+    try (InputStream stream = CurrencyRegistry.class.getResourceAsStream(RESOURCE)) {
+      if (stream == null) {
+        throw new IllegalStateException("Missing currency table " + RESOURCE);
+      }
+      BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.US_ASCII));
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank() || line.startsWith("#")) {
+          continue;
+        }
+        String[] fields = line.split(",", -1);
+        Currency currency = Currency.of(fields[0].trim());
+        int minorUnits = Integer.parseInt(fields[1].trim());
+        String cashIncrement = fields.length > 2 ? fields[2].trim() : "";
+        metadata.put(currency, cashIncrement.isEmpty()
+            ? new CurrencyMetadata(currency, minorUnits)
+            : new CurrencyMetadata(currency, minorUnits, new BigDecimal(cashIncrement)));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to load currency table " + RESOURCE, e);
+    }
+    LOGGER.debug("Loaded {} currencies", metadata.size());
+    return Collections.unmodifiableMap(metadata);
+  }
+}
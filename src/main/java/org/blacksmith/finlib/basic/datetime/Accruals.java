@@ -0,0 +1,71 @@
+package org.blacksmith.finlib.basic.datetime;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.blacksmith.commons.arg.ArgChecker;
+import org.blacksmith.finlib.basic.numbers.Amount;
+import org.blacksmith.finlib.basic.numbers.FixedPoint;
+import org.blacksmith.finlib.basic.numbers.Rate;
+
+/**
+ * Accrual arithmetic of day counts.
+ */
+final class Accruals {
+
+  private Accruals() {
+  }
+
+  /**
+   * Computes {@code notional * rate * numerator / denominator} rounded HALF_UP once.
+   * Compact values are multiplied as unscaled longs, {@link BigDecimal} is used when the product overflows.
+   */
+  static Amount accrual(Amount notional, Rate rate, long numerator, long denominator, int decimalPlaces) {
+    ArgChecker.notNull(notional, "Notional must be not null");
+    ArgChecker.notNull(rate, "Rate must be not null");
+    if (notional.isCompact() && rate.isCompact() && FixedPoint.isSupportedScale(decimalPlaces)) {
+      long result = divide(product(notional.unscaledValue(), rate.unscaledValue(), numerator),
+          notional.decimalPlaces() + rate.decimalPlaces(), denominator, decimalPlaces);
+      if (result != FixedPoint.INFLATED) {
+        return Amount.ofUnscaled(result, decimalPlaces);
+      }
+    }
+    BigDecimal product = notional.getValue().multiply(rate.getValue()).multiply(BigDecimal.valueOf(numerator));
+    return Amount.of(product.divide(BigDecimal.valueOf(denominator), decimalPlaces, RoundingMode.HALF_UP), decimalPlaces);
+  }
+
+  static void checkLength(int startLength, int endLength, int resultLength) {
+    if (startLength != endLength || startLength != resultLength) {
+      throw new IllegalArgumentException("Array length mismatch: " + startLength + ", " + endLength
+          + " and " + resultLength);
+    }
+  }
+
+  private static long product(long notional, long rate, long numerator) {
+    long product = FixedPoint.multiply(notional, rate);
+    return product == FixedPoint.INFLATED ? FixedPoint.INFLATED : FixedPoint.multiply(product, numerator);
+  }
+
+  /**
+   * Divides the unscaled value with the given scale by the denominator, rounding HALF_UP to {@code toScale}.
+   */
+  private static long divide(long value, int scale, long denominator, int toScale) {
+    if (value == FixedPoint.INFLATED) {
+      return FixedPoint.INFLATED;
+    }
+    int diff = scale - toScale;
+    if (diff <= 0) {
+      long rescaled = FixedPoint.rescale(value, scale, toScale);
+      return rescaled == FixedPoint.INFLATED ? FixedPoint.INFLATED : FixedPoint.divideHalfUp(rescaled, denominator);
+    }
+    if (diff > FixedPoint.MAX_SCALE) {
+      return FixedPoint.INFLATED;
+    }
+    long divisor = FixedPoint.multiply(denominator, FixedPoint.powerOfTen(diff));
+    // the remainder is doubled by the rounding
+    if (divisor == FixedPoint.INFLATED || divisor > Long.MAX_VALUE / 2) {
+      return FixedPoint.INFLATED;
+    }
+    return FixedPoint.divideHalfUp(value, divisor);
+  }
+}
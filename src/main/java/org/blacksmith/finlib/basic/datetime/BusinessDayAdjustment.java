@@ -0,0 +1,56 @@
+package org.blacksmith.finlib.basic.datetime;
+
+import java.time.temporal.Temporal;
+
+import org.blacksmith.commons.arg.ArgChecker;
+
+/**
+ * Date operation followed by business day adjustment of the result, e.g. a tenor rolled to a business day.
+ */
+public final class BusinessDayAdjustment implements DateOperation {
+
+  private final DateOperation operation;
+  private final BusinessDayConvention convention;
+  private final HolidayCalendar calendar;
+
+  private BusinessDayAdjustment(DateOperation operation, BusinessDayConvention convention, HolidayCalendar calendar) {
+    this.operation = operation;
+    this.convention = convention;
+    this.calendar = calendar;
+  }
+
+  public static BusinessDayAdjustment of(DateOperation operation, BusinessDayConvention convention,
+      HolidayCalendar calendar) {
+    ArgChecker.notNull(operation, "Date operation must be not null");
+    ArgChecker.notNull(convention, "Business day convention must be not null");
+    ArgChecker.notNull(calendar, "Calendar must be not null");
+    return new BusinessDayAdjustment(operation, convention, calendar);
+  }
+
+  public DateOperation getOperation() {
+    return this.operation;
+  }
+
+  public BusinessDayConvention getConvention() {
+    return this.convention;
+  }
+
+  public HolidayCalendar getCalendar() {
+    return this.calendar;
+  }
+
+  @Override
+  public <T extends Temporal> T addTo(T temporal) {
+    return this.convention.adjust(this.operation.addTo(temporal), this.calendar);
+  }
+
+  @Override
+  public <T extends Temporal> T subtractFrom(T temporal) {
+    return this.convention.adjust(this.operation.subtractFrom(temporal), this.calendar);
+  }
+
+  @Override
+  public String toString() {
+    return this.operation + " " + this.convention + " " + this.calendar.getName();
+  }
+}
@@ -0,0 +1,84 @@
+package org.blacksmith.finlib.basic.datetime;
+
+import java.time.temporal.ChronoField;
+import java.time.temporal.Temporal;
+
+import org.blacksmith.commons.arg.ArgChecker;
+
+/**
+ * Convention adjusting a date which is not a business day.
+ */
+public enum BusinessDayConvention {
+  /**
+   * The date is not adjusted.
+   */
+  UNADJUSTED {
+    @Override
+    public int adjust(int epochDay, HolidayCalendar calendar) {
+      return epochDay;
+    }
+  },
+  /**
+   * The date is moved to the next business day.
+   */
+  FOLLOWING {
+    @Override
+    public int adjust(int epochDay, HolidayCalendar calendar) {
+      return calendar.nextOrSame(epochDay);
+    }
+  },
+  /**
+   * The date is moved to the next business day, unless it is in the next month,
+   * then the date is moved to the previous business day.
+   */
+  MODIFIED_FOLLOWING {
+    @Override
+    public int adjust(int epochDay, HolidayCalendar calendar) {
+      int adjusted = calendar.nextOrSame(epochDay);
+      return adjusted == epochDay || EpochDays.monthIndex(adjusted) == EpochDays.monthIndex(epochDay)
+          ? adjusted : calendar.previous(epochDay);
+    }
+  },
+  /**
+   * The date is moved to the previous business day.
+   */
+  PRECEDING {
+    @Override
+    public int adjust(int epochDay, HolidayCalendar calendar) {
+      return calendar.previousOrSame(epochDay);
+    }
+  },
+  /**
+   * The date is moved to the previous business day, unless it is in the previous month,
+   * then the date is moved to the next business day.
+   */
+  MODIFIED_PRECEDING {
+    @Override
+    public int adjust(int epochDay, HolidayCalendar calendar) {
+      int adjusted = calendar.previousOrSame(epochDay);
+      return adjusted == epochDay || EpochDays.monthIndex(adjusted) == EpochDays.monthIndex(epochDay)
+          ? adjusted : calendar.next(epochDay);
+    }
+  };
+
+  /**
+   * Adjusts the date given as epoch day.
+   *
+   * @param epochDay the date as epoch day
+   * @param calendar the calendar
+   * @return the adjusted date as epoch day
+   */
+  public abstract int adjust(int epochDay, HolidayCalendar calendar);
+
+  /**
+   * Adjusts the date, the temporal must support {@link ChronoField#EPOCH_DAY}, e.g. {@code LocalDate}.
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends Temporal> T adjust(T temporal, HolidayCalendar calendar) {
+    ArgChecker.notNull(temporal, "Date must be not null");
+    ArgChecker.notNull(calendar, "Calendar must be not null");
+    int epochDay = Math.toIntExact(temporal.getLong(ChronoField.EPOCH_DAY));
+    int adjusted = adjust(epochDay, calendar);
+    return adjusted == epochDay ? temporal : (T) temporal.with(ChronoField.EPOCH_DAY, adjusted);
+  }
+}
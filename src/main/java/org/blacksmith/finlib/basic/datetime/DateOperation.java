@@ -6,4 +6,11 @@ public interface DateOperation {
   <T extends Temporal> T addTo(T temporal);
 
   <T extends Temporal> T subtractFrom(T temporal);
+
+  /**
+   * Gets the operation adjusting its results to business days of the calendar.
+   */
+  default DateOperation adjusted(BusinessDayConvention convention, HolidayCalendar calendar) {
+    return BusinessDayAdjustment.of(this, convention, calendar);
+  }
 }
@@ -0,0 +1,75 @@
+package org.blacksmith.finlib.basic.datetime;
+
+import java.time.LocalDate;
+
+import org.blacksmith.finlib.basic.numbers.Amount;
+import org.blacksmith.finlib.basic.numbers.Rate;
+
+/**
+ * Day count convention, computing the fraction of a year between two dates given as epoch days.
+ * <p>
+ * The year fraction is an exact ratio {@link #numerator(int, int)} / {@link #denominator(int, int)},
+ * which lets accruals be computed with a single rounding.
+ */
+public interface DayCount {
+
+  String getName();
+
+  /**
+   * Gets numerator of the year fraction, e.g. the number of days for ACT/360.
+   */
+  long numerator(int startEpochDay, int endEpochDay);
+
+  /**
+   * Gets denominator of the year fraction, always positive, e.g. 360 for ACT/360.
+   */
+  long denominator(int startEpochDay, int endEpochDay);
+
+  /**
+   * Gets year fraction from the start date to the end date, negative when the end date is before the start date.
+   */
+  default double yearFraction(int startEpochDay, int endEpochDay) {
+    return (double) numerator(startEpochDay, endEpochDay) / denominator(startEpochDay, endEpochDay);
+  }
+
+  default double yearFraction(LocalDate startDate, LocalDate endDate) {
+    return yearFraction(EpochDays.of(startDate), EpochDays.of(endDate));
+  }
+
+  /**
+   * Computes year fractions of periods given as arrays of start and end epoch days.
+   *
+   * @param startEpochDays the start dates
+   * @param endEpochDays   the end dates
+   * @param result         the array of year fractions
+   */
+  default void yearFraction(int[] startEpochDays, int[] endEpochDays, double[] result) {
+    Accruals.checkLength(startEpochDays.length, endEpochDays.length, result.length);
+    for (int i = 0; i < result.length; i++) {
+      result[i] = yearFraction(startEpochDays[i], endEpochDays[i]);
+    }
+  }
+
+  /**
+   * Computes accrued interest {@code notional * rate * yearFraction}, rounded HALF_UP once,
+   * to decimal places of the notional.
+   *
+   * @param notional      the notional
+   * @param rate          the annual rate, e.g. 0.05 for 5%
+   * @param startEpochDay the start date as epoch day
+   * @param endEpochDay   the end date as epoch day
+   * @return the accrued interest
+   */
+  default Amount accrual(Amount notional, Rate rate, int startEpochDay, int endEpochDay) {
+    return accrual(notional, rate, startEpochDay, endEpochDay, notional.decimalPlaces());
+  }
+
+  default Amount accrual(Amount notional, Rate rate, int startEpochDay, int endEpochDay, int decimalPlaces) {
+    return Accruals.accrual(notional, rate, numerator(startEpochDay, endEpochDay),
+        denominator(startEpochDay, endEpochDay), decimalPlaces);
+  }
+
+  default Amount accrual(Amount notional, Rate rate, LocalDate startDate, LocalDate endDate) {
+    return accrual(notional, rate, EpochDays.of(startDate), EpochDays.of(endDate));
+  }
+}
@@ -0,0 +1,148 @@
+package org.blacksmith.finlib.basic.datetime;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * Date arithmetic on epoch days (days since 1970-01-01) of the ISO calendar, without {@link LocalDate} allocation.
+ * <p>
+ * Conversions use the proleptic Gregorian calendar arithmetic of 400 year eras, valid for any int epoch day.
+ */
+public final class EpochDays {
+
+  // days from 0000-03-01 to 1970-01-01
+  private static final int DAYS_0000_TO_1970 = 719_468;
+  private static final int DAYS_PER_ERA = 146_097;
+  // lengths of months of a common year and of a leap year, indexed by month from 1
+  private static final int[] MONTH_LENGTHS = { 0, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
+  private static final int[] LEAP_MONTH_LENGTHS = { 0, 31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
+
+  private EpochDays() {
+  }
+
+  public static int of(LocalDate date) {
+    return Math.toIntExact(date.toEpochDay());
+  }
+
+  public static LocalDate toLocalDate(int epochDay) {
+    return LocalDate.ofEpochDay(epochDay);
+  }
+
+  /**
+   * Gets epoch day of the date, the day must be valid for the month.
+   */
+  public static int of(int year, int month, int dayOfMonth) {
+    int y = month <= 2 ? year - 1 : year;
+    int era = Math.floorDiv(y, 400);
+    int yearOfEra = y - era * 400;
+    int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + dayOfMonth - 1;
+    int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+  }
+
+  public static int year(int epochDay) {
+    int z = epochDay + DAYS_0000_TO_1970;
+    int era = Math.floorDiv(z, DAYS_PER_ERA);
+    int dayOfEra = z - era * DAYS_PER_ERA;
+    int yearOfEra = yearOfEra(dayOfEra);
+    int monthIndex = monthIndexOfYear(dayOfEra, yearOfEra);
+    return yearOfEra + era * 400 + (monthIndex >= 10 ? 1 : 0);
+  }
+
+  /**
+   * Gets month from 1 to 12.
+   */
+  public static int month(int epochDay) {
+    int z = epochDay + DAYS_0000_TO_1970;
+    int dayOfEra = z - Math.floorDiv(z, DAYS_PER_ERA) * DAYS_PER_ERA;
+    int monthIndex = monthIndexOfYear(dayOfEra, yearOfEra(dayOfEra));
+    return monthIndex < 10 ? monthIndex + 3 : monthIndex - 9;
+  }
+
+  public static int dayOfMonth(int epochDay) {
+    int z = epochDay + DAYS_0000_TO_1970;
+    int dayOfEra = z - Math.floorDiv(z, DAYS_PER_ERA) * DAYS_PER_ERA;
+    int yearOfEra = yearOfEra(dayOfEra);
+    int dayOfYear = dayOfYear(dayOfEra, yearOfEra);
+    int monthIndex = (5 * dayOfYear + 2) / 153;
+    return dayOfYear - (153 * monthIndex + 2) / 5 + 1;
+  }
+
+  /**
+   * Gets number of months from year 0, i.e. {@code year * 12 + month - 1}, equal for dates of the same month.
+   */
+  public static int monthIndex(int epochDay) {
+    int z = epochDay + DAYS_0000_TO_1970;
+    int era = Math.floorDiv(z, DAYS_PER_ERA);
+    int dayOfEra = z - era * DAYS_PER_ERA;
+    int yearOfEra = yearOfEra(dayOfEra);
+    // months counted from March of the year of era
+    return (era * 400 + yearOfEra) * 12 + monthIndexOfYear(dayOfEra, yearOfEra) + 2;
+  }
+
+  /**
+   * Adds months to the date, the day of month is reduced to the last day of the resulting month if needed,
+   * as by {@link LocalDate#plusMonths(long)}.
+   *
+   * @param epochDay the date as epoch day
+   * @param months   the months to add, may be negative
+   * @return the result as epoch day
+   */
+  public static int plusMonths(int epochDay, int months) {
+    if (months == 0) {
+      return epochDay;
+    }
+    int z = epochDay + DAYS_0000_TO_1970;
+    int era = Math.floorDiv(z, DAYS_PER_ERA);
+    int dayOfEra = z - era * DAYS_PER_ERA;
+    int yearOfEra = yearOfEra(dayOfEra);
+    int dayOfYear = dayOfYear(dayOfEra, yearOfEra);
+    int monthIndex = (5 * dayOfYear + 2) / 153;
+    int dayOfMonth = dayOfYear - (153 * monthIndex + 2) / 5 + 1;
+    // year * 12 + month - 1 of the result
+    long totalMonths = (long) (era * 400 + yearOfEra) * 12 + monthIndex + 2 + months;
+    int year = Math.toIntExact(Math.floorDiv(totalMonths, 12));
+    int month = (int) Math.floorMod(totalMonths, 12) + 1;
+    return of(year, month, Math.min(dayOfMonth, lengthOfMonth(year, month)));
+  }
+
+  /**
+   * Adds months keeping the end of month: the day after the date is moved by the months and the result
+   * is the day before it, so the last day of a month is moved to the last day of the resulting month.
+   * <p>
+   * For a date which is not the last day of its month the result may be a day before {@link #plusMonths(int, int)},
+   * e.g. January 30 plus one month is February 27 in a common year.
+   */
+  public static int plusMonthsEom(int epochDay, int months) {
+    return plusMonths(epochDay + 1, months) - 1;
+  }
+
+  public static int lengthOfMonth(int year, int month) {
+    return isLeapYear(year) ? LEAP_MONTH_LENGTHS[month] : MONTH_LENGTHS[month];
+  }
+
+  public static boolean isLastDayOfMonth(int epochDay) {
+    return dayOfMonth(epochDay + 1) == 1;
+  }
+
+  public static DayOfWeek dayOfWeek(int epochDay) {
+    // 1970-01-01 is Thursday
+    return DayOfWeek.of(Math.floorMod(epochDay + 3, 7) + 1);
+  }
+
+  public static boolean isLeapYear(int year) {
+    return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  private static int yearOfEra(int dayOfEra) {
+    return (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / (DAYS_PER_ERA - 1)) / 365;
+  }
+
+  private static int dayOfYear(int dayOfEra, int yearOfEra) {
+    return dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+  }
+
+  private static int monthIndexOfYear(int dayOfEra, int yearOfEra) {
+    return (5 * dayOfYear(dayOfEra, yearOfEra) + 2) / 153;
+  }
+}
@@ -4,8 +4,9 @@ import java.io.Serializable;
 import java.time.Period;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.blacksmith.commons.arg.ArgChecker;
 
@@ -13,10 +14,29 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 
+/**
+ * A periodic frequency of a number of time units.
+ * <p>
+ * Frequencies are canonical: factory methods and {@link #parse(String)} return cached instances.
+ * <p>
+ * A multi-unit frequency, e.g. {@code P1M15D}, has the unit of months and extra days added after the months.
+ * <p>
+ * Events per year of day, week and multi-unit frequencies are based on a year of 364 days (52 weeks),
+ * a month of a multi-unit frequency is counted as 364 / 12 days.
+ */
 @Getter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public final class Frequency implements DateOperationExt, Serializable {
-  private static final Map<String, Frequency> frequencyMap = new HashMap<>();
+  /**
+   * Cached frequencies of amounts below {@code CACHE_SIZE}, indexed by unit ordinal and amount.
+   */
+  private static final int CACHE_SIZE = 256;
+  private static final AtomicReferenceArray<Frequency> frequencyCache =
+      new AtomicReferenceArray<>(TimeUnit.values().length * CACHE_SIZE);
+  /**
+   * Cached frequencies of larger amounts, by name.
+   */
+  private static final ConcurrentMap<String, Frequency> frequencyMap = new ConcurrentHashMap<>();
   /**
    * A periodic frequency of one day, also known as daily
    */
@@ -117,6 +137,11 @@ public final class Frequency implements DateOperationExt, Serializable {
   private final TimeUnit unit;
   @EqualsAndHashCode.Include
   private final int amount;
+  /**
+   * The days added after the months of a multi-unit frequency, zero for a single unit frequency.
+   */
+  @EqualsAndHashCode.Include
+  private final int extraDays;
   boolean isAnnual;
   @ToString.Include
   private String name;
@@ -125,67 +150,111 @@ public final class Frequency implements DateOperationExt, Serializable {
   private double eventsPerYearEstimate;
   private Period period;
 
-  private Frequency(final Period period) {
-    ArgChecker.isFalse(period.isZero(), "Frequency period must not be zero");
-    ArgChecker.isFalse(period.isNegative(), "Frequency period must not be negative");
-    //TODO multi-unit periods
-    if (period.getUnits().size() > 1 && period.getDays() > 0) {
-      throw new IllegalArgumentException("Multiple unit period not supported");
-    }
-    if (period.getYears() > 0) {
-      if (period.getMonths() == 0) {
-        this.unit = TimeUnit.YEAR;
-        this.amount = period.getYears();
-      } else {
-        this.unit = TimeUnit.MONTH;
-        this.amount = (int) period.toTotalMonths();
-      }
-    } else if (period.getMonths() > 0) {
-      this.unit = TimeUnit.MONTH;
-      this.amount = (int) period.toTotalMonths();
-    } else {
-      this.unit = TimeUnit.DAY;
-      this.amount = period.getDays();
-    }
-    this.period = this.unit.toPeriod(this.amount);
-    setEvents();
-  }
-
   private Frequency(final int amount, final TimeUnit unit) {
     ArgChecker.isTrue(amount > 0, "Amount must be greater than zero");
     ArgChecker.notNull(unit, "Unit must be not null");
     this.unit = unit;
     this.amount = amount;
+    this.extraDays = 0;
     this.name = frequencyName(this.amount, this.unit);
     this.period = this.unit.toPeriod(this.amount);
     setEvents();
   }
 
+  private Frequency(final int months, final int extraDays) {
+    ArgChecker.isTrue(months > 0, "Amount of months must be greater than zero");
+    ArgChecker.isTrue(extraDays > 0, "Amount of days must be greater than zero");
+    this.unit = TimeUnit.MONTH;
+    this.amount = months;
+    this.extraDays = extraDays;
+    this.name = frequencyName(months, extraDays);
+    this.period = Period.of(0, months, extraDays);
+    setEvents();
+  }
+
   private Frequency(final int amount, final TimeUnit unit, String name) {
     ArgChecker.isTrue(amount > 0, "Amount must be greater than zero");
     ArgChecker.notNull(unit, "Unit must be not null");
     this.unit = unit;
     this.amount = amount;
+    this.extraDays = 0;
     this.name = name;
     this.period = this.unit.toPeriod(this.amount);
     setEvents();
   }
 
+  /**
+   * Parses a frequency, e.g. {@code P3M}, {@code 6M}, {@code P1Q} or {@code TERM}.
+   * <p>
+   * The prefix {@code P} is optional. Years are converted to months when combined with other units,
+   * e.g. {@code 1Y6M} is 18 months and {@code 1M2W} is a multi-unit frequency of 1 month and 14 days.
+   *
+   * @param frequency the text to parse
+   * @return the frequency
+   * @throws IllegalArgumentException if the text is not a valid frequency
+   */
   public static Frequency parse(String frequency) {
-    ArgChecker.checkStringLength(frequency, 3, 10);
-    ArgChecker.isTrue(frequency.substring(0, 1).equals("P"), "Frequency must begins with P");
-    int amount = Integer.parseInt(frequency, 1, frequency.length() - 1, 10);
-    String frequencyUnit = frequency.substring(frequency.length() - 1);
-    TimeUnit unit = TimeUnit.ofSymbol(frequencyUnit);
-    return new Frequency(amount, unit);
+    ArgChecker.notNull(frequency, "Frequency must be not null");
+    if (TERM.name.equals(frequency)) {
+      return TERM;
+    }
+    int end = frequency.length();
+    int start = end > 0 && frequency.charAt(0) == 'P' ? 1 : 0;
+    // single unit fast path
+    long amount = 0;
+    int pos = start;
+    char c;
+    while (pos < end - 1 && (c = frequency.charAt(pos)) >= '0' && c <= '9' && amount <= Integer.MAX_VALUE) {
+      amount = amount * 10 + (c - '0');
+      pos++;
+    }
+    if (pos > start && pos == end - 1 && amount <= Integer.MAX_VALUE) {
+      TimeUnit unit = TimeUnit.ofSymbol(frequency.charAt(pos));
+      if (unit != null) {
+        return createIfNotExists((int) amount, unit);
+      }
+    }
+    long parsed = PeriodParser.parse(frequency, 0, end);
+    return ofPeriod(PeriodParser.years(parsed), PeriodParser.months(parsed), PeriodParser.days(parsed));
   }
 
   public static Frequency of(final int amount, final TimeUnit unit) {
-    return new Frequency(amount, unit);
+    ArgChecker.notNull(unit, "Unit must be not null");
+    return createIfNotExists(amount, unit);
   }
 
   public static Frequency ofPeriod(Period period) {
-    return new Frequency(period);
+    ArgChecker.notNull(period, "Period must be not null");
+    return ofPeriod(period.getYears(), period.getMonths(), period.getDays());
+  }
+
+  private static Frequency ofPeriod(int years, int months, int days) {
+    ArgChecker.isFalse((years | months | days) == 0, "Frequency period must not be zero");
+    ArgChecker.isFalse(years < 0 || months < 0 || days < 0, "Frequency period must not be negative");
+    if (years > 0 && months == 0 && days == 0) {
+      return createIfNotExists(years, TimeUnit.YEAR);
+    }
+    return ofMonthsAndDays(Math.toIntExact(years * 12L + months), days);
+  }
+
+  /**
+   * Obtains an instance of months and days, multi-unit if both are positive.
+   * <p>
+   * Months are not normalized into years and days are not converted to weeks.
+   *
+   * @param months the number of months
+   * @param days   the number of days added after the months
+   * @return the periodic frequency
+   * @throws IllegalArgumentException if months or days are negative or both are zero
+   */
+  public static Frequency ofMonthsAndDays(int months, int days) {
+    ArgChecker.isTrue(months >= 0 && days >= 0, "Amounts must be not negative");
+    if (days == 0) {
+      return createIfNotExists(months, TimeUnit.MONTH);
+    } else if (months == 0) {
+      return createIfNotExists(days, TimeUnit.DAY);
+    }
+    return frequencyMap.computeIfAbsent(frequencyName(months, days), name -> new Frequency(months, days));
   }
 
   public static Frequency ofDays(int days) {
@@ -197,13 +266,27 @@ public final class Frequency implements DateOperationExt, Serializable {
     }
   }
 
+  /**
+   * Gets the canonical frequency, created and cached on first use. This method is thread-safe.
+   *
+   * @param amount the amount of units
+   * @param unit   the unit
+   * @return the frequency
+   */
   public static Frequency createIfNotExists(int amount, TimeUnit unit) {
-    String name = frequencyName(amount, unit);
-    Frequency frequency = frequencyMap.get(name);
-    if (frequency == null) {
-      frequency = new Frequency(amount, unit);
+    if (amount > 0 && amount < CACHE_SIZE) {
+      int index = unit.ordinal() * CACHE_SIZE + amount;
+      Frequency frequency = frequencyCache.get(index);
+      if (frequency == null) {
+        frequency = new Frequency(amount, unit);
+        if (!frequencyCache.compareAndSet(index, null, frequency)) {
+          frequency = frequencyCache.get(index);
+        }
+      }
+      return frequency;
     }
-    return frequency;
+    ArgChecker.isTrue(amount > 0, "Amount must be greater than zero");
+    return frequencyMap.computeIfAbsent(frequencyName(amount, unit), name -> new Frequency(amount, unit));
   }
 
   /**
@@ -258,15 +341,17 @@ public final class Frequency implements DateOperationExt, Serializable {
     return "P" + amount + unit.symbol();
   }
 
+  private static String frequencyName(final int months, final int days) {
+    return "P" + months + "M" + days + "D";
+  }
+
   private static Frequency addFrequency(int amount, TimeUnit unit) {
-    Frequency frequency = new Frequency(amount, unit);
-    frequencyMap.put(frequency.name, frequency);
-    return frequency;
+    return createIfNotExists(amount, unit);
   }
 
   private static Frequency addFrequency(int amount, TimeUnit unit, String name) {
     Frequency frequency = new Frequency(amount, unit, name);
-    frequencyMap.put(frequency.name, frequency);
+    frequencyMap.put(frequencyName(amount, unit), frequency);
     return frequency;
   }
 
@@ -295,42 +380,107 @@ public final class Frequency implements DateOperationExt, Serializable {
     return this.eventsPerYearEstimate;
   }
 
+  /**
+   * Checks if the frequency has months and days.
+   */
+  public boolean isMultiUnit() {
+    return this.extraDays != 0;
+  }
+
   @Override
   public <T extends Temporal> T addTo(T temporal) {
     //    return (T)this.period.addTo(temporal);
+    if (this.extraDays != 0) {
+      return roll(temporal, 1, false);
+    }
     return this.unit.addTo(temporal, amount);
   }
 
   @Override
   public <T extends Temporal> T subtractFrom(T temporal) {
+    if (this.extraDays != 0) {
+      return roll(temporal, -1, false);
+    }
     return this.unit.subtractFrom(temporal, amount);
   }
 
   @Override
   public <T extends Temporal> T addTo(T temporal, int i) {
+    if (this.extraDays != 0) {
+      return roll(temporal, i, false);
+    }
     return this.unit.addTo(temporal, i * amount);
   }
 
   @Override
   public <T extends Temporal> T subtractFrom(T temporal, int i) {
     //        return (T)this.period.subtractFrom(temporal);
+    if (this.extraDays != 0) {
+      return roll(temporal, -i, false);
+    }
     return this.unit.subtractFrom(temporal, i * amount);
   }
 
   @Override
   public <T extends Temporal> T addToWithEomAdjust(T temporal, boolean eomAadjust) {
+    if (this.extraDays != 0) {
+      return roll(temporal, 1, eomAadjust);
+    }
     return (T) this.unit.addToWithEomAdjust(temporal, amount, eomAadjust);
   }
 
   @Override
   public <T extends Temporal> T addToWithEomAdjust(T temporal, int i, boolean eomAadjust) {
+    if (this.extraDays != 0) {
+      return roll(temporal, i, eomAadjust);
+    }
     return (T) this.unit.addToWithEomAdjust(temporal, i * amount, eomAadjust);
   }
 
+  public int addToEpochDay(int epochDay) {
+    return addToEpochDay(epochDay, 1, false);
+  }
+
+  /**
+   * Adds the frequency {@code i} times to the date given as epoch day, without {@code LocalDate} allocation.
+   *
+   * @param epochDay  the date as epoch day
+   * @param i         the number of periods, may be negative
+   * @param eomAdjust whether to keep the end of month
+   * @return the result as epoch day
+   */
+  public int addToEpochDay(int epochDay, int i, boolean eomAdjust) {
+    if (this.extraDays != 0) {
+      int months = Math.multiplyExact(i, this.amount);
+      int date = eomAdjust ? EpochDays.plusMonthsEom(epochDay, months) : EpochDays.plusMonths(epochDay, months);
+      return Math.addExact(date, Math.multiplyExact(i, this.extraDays));
+    }
+    return this.unit.addToEpochDay(epochDay, Math.multiplyExact(i, amount), eomAdjust);
+  }
+
+  // months first, then days, the end of month is kept for the months only
+  private <T extends Temporal> T roll(T temporal, int i, boolean eomAdjust) {
+    T result = (T) this.unit.addToWithEomAdjust(temporal, Math.multiplyExact(i, this.amount), eomAdjust);
+    return (T) result.plus(Math.multiplyExact(i, this.extraDays), ChronoUnit.DAYS);
+  }
+
+  // canonical instance on deserialization
+  private Object readResolve() {
+    return this.extraDays != 0 ? ofMonthsAndDays(this.amount, this.extraDays) : createIfNotExists(this.amount, this.unit);
+  }
+
   private void setEvents() {
     if (amount == 0) {
       return;
     }
+    if (extraDays != 0) {
+      // month of a 364 days year, the same year as of day and week frequencies
+      double days = amount * 364d / 12 + extraDays;
+      eventsPerYear = 0;
+      eventsPerYearEstimate = 364d / days;
+      months = amount;
+      return;
+    }
     this.period = this.unit.toPeriod(this.amount);
     long unitSecs = 0;
     switch (unit) {
@@ -0,0 +1,260 @@
+package org.blacksmith.finlib.basic.datetime;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.blacksmith.commons.arg.ArgChecker;
+
+/**
+ * Immutable calendar of business days in a range of dates.
+ * <p>
+ * Non-business days (weekends and holidays) are stored as a bitset over epoch days of the range.
+ * Business days are ranked: {@code ranks[i]} is the number of business days before the i-th day of the range
+ * and {@code businessDays} lists offsets of business days, so finding the next or previous business day,
+ * adding business days and counting business days between dates are array lookups.
+ * Dates out of the range are rejected with {@link IllegalArgumentException}.
+ */
+public final class HolidayCalendar {
+
+  private final String name;
+  private final int firstDay;
+  private final int size;
+  // bit set for a non-business day
+  private final long[] holidays;
+  private final int[] ranks;
+  private final int[] businessDays;
+
+  private HolidayCalendar(String name, int firstDay, int size, long[] holidays) {
+    this.name = name;
+    this.firstDay = firstDay;
+    this.size = size;
+    this.holidays = holidays;
+    this.ranks = new int[size + 1];
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      this.ranks[i] = count;
+      if (!isHoliday(holidays, i)) {
+        count++;
+      }
+    }
+    this.ranks[size] = count;
+    this.businessDays = new int[count];
+    for (int i = 0, j = 0; i < size; i++) {
+      if (!isHoliday(holidays, i)) {
+        this.businessDays[j++] = i;
+      }
+    }
+  }
+
+  /**
+   * Creates calendar with Saturday and Sunday weekends.
+   *
+   * @param name      the name
+   * @param firstDate the first date of the calendar
+   * @param lastDate  the last date of the calendar, inclusive
+   * @param holidays  the holidays
+   * @return the calendar
+   */
+  public static HolidayCalendar of(String name, LocalDate firstDate, LocalDate lastDate, Collection<LocalDate> holidays) {
+    return builder(name, firstDate, lastDate).holidays(holidays).build();
+  }
+
+  public static Builder builder(String name, LocalDate firstDate, LocalDate lastDate) {
+    return new Builder(name, firstDate, lastDate);
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public LocalDate getFirstDate() {
+    return LocalDate.ofEpochDay(this.firstDay);
+  }
+
+  public LocalDate getLastDate() {
+    return LocalDate.ofEpochDay(this.firstDay + this.size - 1L);
+  }
+
+  public boolean contains(int epochDay) {
+    return epochDay >= this.firstDay && epochDay - this.firstDay < this.size;
+  }
+
+  public boolean isBusinessDay(int epochDay) {
+    return !isHoliday(this.holidays, index(epochDay));
+  }
+
+  public boolean isBusinessDay(LocalDate date) {
+    return isBusinessDay(EpochDays.of(date));
+  }
+
+  public boolean isHoliday(LocalDate date) {
+    return !isBusinessDay(date);
+  }
+
+  /**
+   * Gets the date if it is a business day, otherwise the next business day.
+   */
+  public int nextOrSame(int epochDay) {
+    int rank = this.ranks[index(epochDay)];
+    return businessDay(rank);
+  }
+
+  public LocalDate nextOrSame(LocalDate date) {
+    return LocalDate.ofEpochDay(nextOrSame(EpochDays.of(date)));
+  }
+
+  public int next(int epochDay) {
+    int rank = this.ranks[index(epochDay) + 1];
+    return businessDay(rank);
+  }
+
+  public LocalDate next(LocalDate date) {
+    return LocalDate.ofEpochDay(next(EpochDays.of(date)));
+  }
+
+  /**
+   * Gets the date if it is a business day, otherwise the previous business day.
+   */
+  public int previousOrSame(int epochDay) {
+    int index = index(epochDay);
+    return isHoliday(this.holidays, index) ? businessDay(this.ranks[index] - 1) : epochDay;
+  }
+
+  public LocalDate previousOrSame(LocalDate date) {
+    return LocalDate.ofEpochDay(previousOrSame(EpochDays.of(date)));
+  }
+
+  public int previous(int epochDay) {
+    return businessDay(this.ranks[index(epochDay)] - 1);
+  }
+
+  public LocalDate previous(LocalDate date) {
+    return LocalDate.ofEpochDay(previous(EpochDays.of(date)));
+  }
+
+  /**
+   * Adds business days to the date, a negative amount moves the date backward.
+   * For zero the date is returned unchanged.
+   *
+   * @param epochDay the date as epoch day
+   * @param amount   the number of business days
+   * @return the shifted date as epoch day
+   */
+  public int addBusinessDays(int epochDay, int amount) {
+    int index = index(epochDay);
+    if (amount == 0) {
+      return epochDay;
+    }
+    // ranks[index + 1] is the number of business days on or before the date
+    return amount > 0 ? businessDay(this.ranks[index + 1] + amount - 1) : businessDay(this.ranks[index] + amount);
+  }
+
+  public LocalDate addBusinessDays(LocalDate date, int amount) {
+    return LocalDate.ofEpochDay(addBusinessDays(EpochDays.of(date), amount));
+  }
+
+  /**
+   * Counts business days from the start date inclusive to the end date exclusive.
+   * The end date may be the day after the last date of the calendar.
+   *
+   * @param startEpochDay the start date as epoch day
+   * @param endEpochDay   the end date as epoch day, not before the start date
+   * @return the number of business days
+   */
+  public int businessDaysBetween(int startEpochDay, int endEpochDay) {
+    ArgChecker.isTrue(startEpochDay <= endEpochDay, "Start date must be not after end date");
+    int endIndex = endEpochDay - this.firstDay;
+    ArgChecker.isTrue(endIndex >= 0 && endIndex <= this.size, () -> "Date out of calendar " + this.name + ": "
+        + LocalDate.ofEpochDay(endEpochDay));
+    return this.ranks[endIndex] - this.ranks[index(startEpochDay)];
+  }
+
+  public int businessDaysBetween(LocalDate startDate, LocalDate endDate) {
+    return businessDaysBetween(EpochDays.of(startDate), EpochDays.of(endDate));
+  }
+
+  private int businessDay(int rank) {
+    ArgChecker.isTrue(rank >= 0 && rank < this.businessDays.length, () -> "Business day out of calendar " + this.name);
+    return this.firstDay + this.businessDays[rank];
+  }
+
+  private int index(int epochDay) {
+    ArgChecker.isTrue(contains(epochDay), () -> "Date out of calendar " + this.name + ": " + LocalDate.ofEpochDay(epochDay));
+    return epochDay - this.firstDay;
+  }
+
+  private static boolean isHoliday(long[] holidays, int index) {
+    return (holidays[index >>> 6] & (1L << index)) != 0;
+  }
+
+  @Override
+  public String toString() {
+    return "HolidayCalendar{" +
+        "name=" + name +
+        ", firstDate=" + getFirstDate() +
+        ", lastDate=" + getLastDate() +
+        '}';
+  }
+
+  /**
+   * Builder of the calendar, Saturday and Sunday are weekends unless set otherwise.
+   */
+  public static final class Builder {
+    private final String name;
+    private final int firstDay;
+    private final int size;
+    private final long[] holidays;
+    private Set<DayOfWeek> weekends = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+    private Builder(String name, LocalDate firstDate, LocalDate lastDate) {
+      ArgChecker.notNull(name, "Name must be not null");
+      ArgChecker.notNull(firstDate, "First date must be not null");
+      ArgChecker.notNull(lastDate, "Last date must be not null");
+      ArgChecker.isFalse(lastDate.isBefore(firstDate), "Last date must be not before first date");
+      this.name = name;
+      this.firstDay = EpochDays.of(firstDate);
+      this.size = Math.toIntExact(lastDate.toEpochDay() - firstDate.toEpochDay() + 1);
+      this.holidays = new long[(this.size + 63) >>> 6];
+    }
+
+    public Builder weekends(DayOfWeek... weekends) {
+      ArgChecker.notNull(weekends, "Weekends must be not null");
+      this.weekends = EnumSet.noneOf(DayOfWeek.class);
+      for (DayOfWeek weekend : weekends) {
+        this.weekends.add(weekend);
+      }
+      return this;
+    }
+
+    /**
+     * Adds the holiday, holidays out of the calendar range are ignored.
+     */
+    public Builder holiday(LocalDate holiday) {
+      ArgChecker.notNull(holiday, "Holiday must be not null");
+      long index = holiday.toEpochDay() - this.firstDay;
+      if (index >= 0 && index < this.size) {
+        this.holidays[(int) (index >>> 6)] |= 1L << index;
+      }
+      return this;
+    }
+
+    public Builder holidays(Collection<LocalDate> holidays) {
+      ArgChecker.notNull(holidays, "Holidays must be not null");
+      holidays.forEach(this::holiday);
+      return this;
+    }
+
+    public HolidayCalendar build() {
+      long[] result = this.holidays.clone();
+      for (int i = 0; i < this.size; i++) {
+        if (this.weekends.contains(EpochDays.dayOfWeek(this.firstDay + i))) {
+          result[i >>> 6] |= 1L << i;
+        }
+      }
+      return new HolidayCalendar(this.name, this.firstDay, this.size, result);
+    }
+  }
+}
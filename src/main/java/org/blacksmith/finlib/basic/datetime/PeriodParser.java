@@ -0,0 +1,118 @@
+package org.blacksmith.finlib.basic.datetime;
+
+import org.blacksmith.commons.arg.ArgChecker;
+
+/**
+ * Parser of ISO-8601 like periods, e.g. {@code P1Y6M}, {@code 3M} or {@code 2W3D}, without allocation.
+ * <p>
+ * The prefix {@code P} is optional, letters are case-insensitive, units must be in order Y, M, W, D and
+ * amounts must be not negative. Weeks are added to days. The result is packed into a long,
+ * see {@link #years(long)}, {@link #months(long)} and {@link #days(long)}.
+ */
+final class PeriodParser {
+
+  static final int MAX_YEARS = (1 << 20) - 1;
+  static final int MAX_MONTHS = (1 << 20) - 1;
+  static final int MAX_DAYS = (1 << 23) - 1;
+
+  private static final int YEAR = 0;
+  private static final int MONTH = 1;
+  private static final int WEEK = 2;
+  private static final int DAY = 3;
+
+  private PeriodParser() {
+  }
+
+  static long parse(CharSequence text, int start, int end) {
+    ArgChecker.notNull(text, "Text must be not null");
+    ArgChecker.isTrue(start >= 0 && start <= end && end <= text.length(), "Invalid text range");
+    int pos = start;
+    if (pos < end && (text.charAt(pos) == 'P' || text.charAt(pos) == 'p')) {
+      pos++;
+    }
+    if (pos == end) {
+      throw invalid(text, start, end);
+    }
+    long years = 0;
+    long months = 0;
+    long days = 0;
+    int lastUnit = -1;
+    while (pos < end) {
+      long amount = 0;
+      int digitsStart = pos;
+      char c;
+      while (pos < end && (c = text.charAt(pos)) >= '0' && c <= '9') {
+        amount = amount * 10 + (c - '0');
+        if (amount > MAX_DAYS) {
+          throw tooLarge(text, start, end);
+        }
+        pos++;
+      }
+      if (pos == digitsStart || pos == end) {
+        throw invalid(text, start, end);
+      }
+      int unit = unit(text.charAt(pos++));
+      if (unit <= lastUnit) {
+        throw invalid(text, start, end);
+      }
+      lastUnit = unit;
+      switch (unit) {
+        case YEAR:
+          years = amount;
+          break;
+        case MONTH:
+          months = amount;
+          break;
+        case WEEK:
+          days = amount * 7;
+          break;
+        default:
+          days += amount;
+          break;
+      }
+    }
+    if (years > MAX_YEARS || months > MAX_MONTHS || days > MAX_DAYS) {
+      throw tooLarge(text, start, end);
+    }
+    return (years << 43) | (months << 23) | days;
+  }
+
+  static int years(long packed) {
+    return (int) (packed >>> 43);
+  }
+
+  static int months(long packed) {
+    return (int) ((packed >>> 23) & MAX_MONTHS);
+  }
+
+  static int days(long packed) {
+    return (int) (packed & MAX_DAYS);
+  }
+
+  private static int unit(char c) {
+    switch (c) {
+      case 'Y':
+      case 'y':
+        return YEAR;
+      case 'M':
+      case 'm':
+        return MONTH;
+      case 'W':
+      case 'w':
+        return WEEK;
+      case 'D':
+      case 'd':
+        return DAY;
+      default:
+        return -1;
+    }
+  }
+
+  private static IllegalArgumentException invalid(CharSequence text, int start, int end) {
+    return new IllegalArgumentException("Invalid period: " + text.subSequence(start, end));
+  }
+
+  private static IllegalArgumentException tooLarge(CharSequence text, int start, int end) {
+    return new IllegalArgumentException("Period too large: " + text.subSequence(start, end));
+  }
+}
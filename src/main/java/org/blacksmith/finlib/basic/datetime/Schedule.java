@@ -0,0 +1,106 @@
+package org.blacksmith.finlib.basic.datetime;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.blacksmith.commons.arg.ArgChecker;
+
+/**
+ * Immutable schedule of unadjusted dates, held as strictly increasing epoch days.
+ * <p>
+ * The first date is the start date and the last date is the end date of the schedule,
+ * so the schedule of {@code n} dates has {@code n - 1} periods.
+ */
+public final class Schedule {
+
+  private final int[] epochDays;
+
+  private Schedule(int[] epochDays) {
+    this.epochDays = epochDays;
+  }
+
+  /**
+   * Creates schedule of the epoch days, which must be strictly increasing.
+   *
+   * @param epochDays the dates as epoch days, at least two
+   * @return the schedule
+   */
+  public static Schedule ofEpochDays(int[] epochDays) {
+    ArgChecker.notNull(epochDays, "Dates must be not null");
+    ArgChecker.isTrue(epochDays.length >= 2, "Schedule must have at least two dates");
+    for (int i = 1; i < epochDays.length; i++) {
+      ArgChecker.isTrue(epochDays[i - 1] < epochDays[i], "Dates must be strictly increasing");
+    }
+    return new Schedule(epochDays.clone());
+  }
+
+  /**
+   * Creates schedule taking ownership of the array, the caller must not modify it.
+   */
+  static Schedule wrap(int[] epochDays) {
+    return new Schedule(epochDays);
+  }
+
+  public int size() {
+    return this.epochDays.length;
+  }
+
+  public int periodCount() {
+    return this.epochDays.length - 1;
+  }
+
+  public int getEpochDay(int index) {
+    return this.epochDays[index];
+  }
+
+  public LocalDate getDate(int index) {
+    return LocalDate.ofEpochDay(this.epochDays[index]);
+  }
+
+  public LocalDate getStartDate() {
+    return getDate(0);
+  }
+
+  public LocalDate getEndDate() {
+    return getDate(this.epochDays.length - 1);
+  }
+
+  /**
+   * Gets a copy of the dates as epoch days.
+   */
+  public int[] toEpochDays() {
+    return this.epochDays.clone();
+  }
+
+  public List<LocalDate> getDates() {
+    List<LocalDate> dates = new ArrayList<>(this.epochDays.length);
+    for (int epochDay : this.epochDays) {
+      dates.add(LocalDate.ofEpochDay(epochDay));
+    }
+    return Collections.unmodifiableList(dates);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(this.epochDays);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (o == null || getClass() != o.getClass())
+      return false;
+    return Arrays.equals(this.epochDays, ((Schedule) o).epochDays);
+  }
+
+  @Override
+  public String toString() {
+    return "Schedule{" +
+        "dates=" + getDates() +
+        '}';
+  }
+}
@@ -0,0 +1,175 @@
+package org.blacksmith.finlib.basic.datetime;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.blacksmith.commons.arg.ArgChecker;
+
+/**
+ * Generates schedules of unadjusted dates from start and end dates and a frequency.
+ * <p>
+ * Dates are rolled from the start date (final stub) or from the end date (initial stub),
+ * the n-th date is the anchor date plus n times the frequency, so month lengths do not accumulate.
+ * When end of month adjustment is requested and the anchor date is the last day of a month,
+ * all rolled dates are the last days of their months.
+ * <p>
+ * Generated schedules are immutable and cached by their parameters, the cache is cleared when it exceeds its size.
+ * This class is thread-safe.
+ */
+public final class ScheduleGenerator {
+
+  private static final int DEFAULT_MAX_CACHE_SIZE = 65_536;
+  private static final ScheduleGenerator DEFAULT = new ScheduleGenerator(DEFAULT_MAX_CACHE_SIZE);
+
+  private final int maxCacheSize;
+  private final Map<Key, Schedule> cache = new ConcurrentHashMap<>();
+
+  private ScheduleGenerator(int maxCacheSize) {
+    this.maxCacheSize = maxCacheSize;
+  }
+
+  /**
+   * Gets the shared generator.
+   */
+  public static ScheduleGenerator getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Creates generator with own cache.
+   *
+   * @param maxCacheSize the maximum number of cached schedules, zero disables caching
+   * @return the generator
+   */
+  public static ScheduleGenerator of(int maxCacheSize) {
+    ArgChecker.isTrue(maxCacheSize >= 0, "Cache size must be not negative");
+    return new ScheduleGenerator(maxCacheSize);
+  }
+
+  public Schedule generate(LocalDate startDate, Tenor tenor, Frequency frequency, boolean eomAdjust,
+      StubConvention stubConvention) {
+    ArgChecker.notNull(startDate, "Start date must be not null");
+    ArgChecker.notNull(tenor, "Tenor must be not null");
+    return generate(startDate, tenor.addTo(startDate), frequency, eomAdjust, stubConvention);
+  }
+
+  /**
+   * Generates schedule.
+   *
+   * @param startDate      the start date
+   * @param endDate        the end date, after the start date
+   * @param frequency      the frequency of periods
+   * @param eomAdjust      whether to roll dates to ends of months when the anchor date is the end of month
+   * @param stubConvention the stub convention
+   * @return the schedule
+   */
+  public Schedule generate(LocalDate startDate, LocalDate endDate, Frequency frequency, boolean eomAdjust,
+      StubConvention stubConvention) {
+    ArgChecker.notNull(startDate, "Start date must be not null");
+    ArgChecker.notNull(endDate, "End date must be not null");
+    ArgChecker.notNull(frequency, "Frequency must be not null");
+    ArgChecker.notNull(stubConvention, "Stub convention must be not null");
+    ArgChecker.isTrue(startDate.isBefore(endDate), "Start date must be before end date");
+    Key key = new Key(EpochDays.of(startDate), EpochDays.of(endDate), frequency, eomAdjust, stubConvention);
+    if (this.maxCacheSize == 0) {
+      return create(key);
+    }
+    Schedule schedule = this.cache.get(key);
+    if (schedule == null) {
+      schedule = create(key);
+      if (this.cache.size() >= this.maxCacheSize) {
+        this.cache.clear();
+      }
+      Schedule existing = this.cache.putIfAbsent(key, schedule);
+      if (existing != null) {
+        schedule = existing;
+      }
+    }
+    return schedule;
+  }
+
+  public int cacheSize() {
+    return this.cache.size();
+  }
+
+  public void clearCache() {
+    this.cache.clear();
+  }
+
+  private static Schedule create(Key key) {
+    boolean initial = key.stubConvention.isInitial();
+    int anchorDay = initial ? key.endDay : key.startDay;
+    int limitDay = initial ? key.startDay : key.endDay;
+    boolean eom = key.eomAdjust && EpochDays.isLastDayOfMonth(anchorDay);
+    int[] dates = new int[16];
+    dates[0] = anchorDay;
+    int size = 1;
+    int rolled;
+    for (int i = 1; ; i++) {
+      rolled = key.frequency.addToEpochDay(anchorDay, initial ? -i : i, eom);
+      if (initial ? rolled <= limitDay : rolled >= limitDay) {
+        break;
+      }
+      if (size == dates.length) {
+        dates = Arrays.copyOf(dates, size * 2);
+      }
+      dates[size++] = rolled;
+    }
+    // a long stub merges the stub with the neighbouring regular period
+    if (rolled != limitDay && key.stubConvention.isLong() && size > 1) {
+      size--;
+    }
+    dates = Arrays.copyOf(dates, size + 1);
+    dates[size] = limitDay;
+    if (initial) {
+      reverse(dates);
+    }
+    return Schedule.wrap(dates);
+  }
+
+  private static void reverse(int[] values) {
+    for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+      int value = values[i];
+      values[i] = values[j];
+      values[j] = value;
+    }
+  }
+
+  private static final class Key {
+    private final int startDay;
+    private final int endDay;
+    private final Frequency frequency;
+    private final boolean eomAdjust;
+    private final StubConvention stubConvention;
+
+    private Key(int startDay, int endDay, Frequency frequency, boolean eomAdjust, StubConvention stubConvention) {
+      this.startDay = startDay;
+      this.endDay = endDay;
+      this.frequency = frequency;
+      this.eomAdjust = eomAdjust;
+      this.stubConvention = stubConvention;
+    }
+
+    @Override
+    public int hashCode() {
+      int result = 31 * this.startDay + this.endDay;
+      result = 31 * result + this.frequency.hashCode();
+      result = 31 * result + (this.eomAdjust ? 1 : 0);
+      return 31 * result + this.stubConvention.ordinal();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o)
+        return true;
+      if (!(o instanceof Key))
+        return false;
+      Key key = (Key) o;
+      return this.startDay == key.startDay && this.endDay == key.endDay && this.eomAdjust == key.eomAdjust
+          && this.stubConvention == key.stubConvention && Objects.equals(this.frequency, key.frequency);
+    }
+  }
+}
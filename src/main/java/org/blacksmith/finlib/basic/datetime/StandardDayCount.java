@@ -0,0 +1,153 @@
+package org.blacksmith.finlib.basic.datetime;
+
+/**
+ * Standard day count conventions, computed on epoch days.
+ */
+public enum StandardDayCount implements DayCount {
+  /**
+   * Actual number of days divided by 360.
+   */
+  ACT_360("ACT/360") {
+    @Override
+    public long numerator(int startEpochDay, int endEpochDay) {
+      return (long) endEpochDay - startEpochDay;
+    }
+
+    @Override
+    public long denominator(int startEpochDay, int endEpochDay) {
+      return 360;
+    }
+
+    @Override
+    public void yearFraction(int[] startEpochDays, int[] endEpochDays, double[] result) {
+      Accruals.checkLength(startEpochDays.length, endEpochDays.length, result.length);
+      for (int i = 0; i < result.length; i++) {
+        result[i] = ((double) endEpochDays[i] - startEpochDays[i]) / 360d;
+      }
+    }
+  },
+  /**
+   * Actual number of days divided by 365.
+   */
+  ACT_365F("ACT/365F") {
+    @Override
+    public long numerator(int startEpochDay, int endEpochDay) {
+      return (long) endEpochDay - startEpochDay;
+    }
+
+    @Override
+    public long denominator(int startEpochDay, int endEpochDay) {
+      return 365;
+    }
+
+    @Override
+    public void yearFraction(int[] startEpochDays, int[] endEpochDays, double[] result) {
+      Accruals.checkLength(startEpochDays.length, endEpochDays.length, result.length);
+      for (int i = 0; i < result.length; i++) {
+        result[i] = ((double) endEpochDays[i] - startEpochDays[i]) / 365d;
+      }
+    }
+  },
+  /**
+   * Days in leap years divided by 366 plus days in other years divided by 365.
+   */
+  ACT_ACT_ISDA("ACT/ACT ISDA") {
+    @Override
+    public long numerator(int startEpochDay, int endEpochDay) {
+      if (endEpochDay < startEpochDay) {
+        return -numerator(endEpochDay, startEpochDay);
+      }
+      long leapDays = 0;
+      int year = EpochDays.year(startEpochDay);
+      int from = startEpochDay;
+      while (from < endEpochDay) {
+        int to = Math.min(EpochDays.of(year + 1, 1, 1), endEpochDay);
+        if (EpochDays.isLeapYear(year)) {
+          leapDays += to - from;
+        }
+        from = to;
+        year++;
+      }
+      long days = (long) endEpochDay - startEpochDay;
+      return (days - leapDays) * 366 + leapDays * 365;
+    }
+
+    @Override
+    public long denominator(int startEpochDay, int endEpochDay) {
+      return 365 * 366;
+    }
+  },
+  /**
+   * 30/360 bond basis: day 31 is changed to 30, for the end date only when the start date is day 30 or 31.
+   */
+  THIRTY_360("30/360") {
+    @Override
+    public long numerator(int startEpochDay, int endEpochDay) {
+      int day1 = EpochDays.dayOfMonth(startEpochDay);
+      int day2 = EpochDays.dayOfMonth(endEpochDay);
+      if (day1 == 31) {
+        day1 = 30;
+      }
+      if (day2 == 31 && day1 == 30) {
+        day2 = 30;
+      }
+      return days360(startEpochDay, day1, endEpochDay, day2);
+    }
+
+    @Override
+    public long denominator(int startEpochDay, int endEpochDay) {
+      return 360;
+    }
+  },
+  /**
+   * 30E/360 eurobond basis: day 31 is changed to 30.
+   */
+  THIRTY_E_360("30E/360") {
+    @Override
+    public long numerator(int startEpochDay, int endEpochDay) {
+      return days360(startEpochDay, Math.min(EpochDays.dayOfMonth(startEpochDay), 30),
+          endEpochDay, Math.min(EpochDays.dayOfMonth(endEpochDay), 30));
+    }
+
+    @Override
+    public long denominator(int startEpochDay, int endEpochDay) {
+      return 360;
+    }
+  };
+
+  private final String name;
+
+  StandardDayCount(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Gets day count of the name, e.g. {@code ACT/360}.
+   *
+   * @param name the name
+   * @return the day count
+   */
+  public static StandardDayCount ofName(String name) {
+    for (StandardDayCount dayCount : values()) {
+      if (dayCount.name.equals(name)) {
+        return dayCount;
+      }
+    }
+    throw new IllegalArgumentException("Unknown day count: " + name);
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+
+  @Override
+  public String toString() {
+    return this.name;
+  }
+
+  private static long days360(int startEpochDay, int day1, int endEpochDay, int day2) {
+    // month indexes are year * 12 + month - 1
+    return 30L * (EpochDays.monthIndex(endEpochDay) - EpochDays.monthIndex(startEpochDay)) + day2 - day1;
+  }
+}
@@ -0,0 +1,39 @@
+package org.blacksmith.finlib.basic.datetime;
+
+/**
+ * Convention of the irregular period of a schedule, when the schedule length is not a multiple of the frequency.
+ */
+public enum StubConvention {
+  /**
+   * Dates are rolled forward from the start date, the last period is shorter.
+   */
+  SHORT_FINAL(false, false),
+  /**
+   * Dates are rolled forward from the start date, the last period is longer.
+   */
+  LONG_FINAL(false, true),
+  /**
+   * Dates are rolled backward from the end date, the first period is shorter.
+   */
+  SHORT_INITIAL(true, false),
+  /**
+   * Dates are rolled backward from the end date, the first period is longer.
+   */
+  LONG_INITIAL(true, true);
+
+  private final boolean initial;
+  private final boolean longStub;
+
+  StubConvention(boolean initial, boolean longStub) {
+    this.initial = initial;
+    this.longStub = longStub;
+  }
+
+  public boolean isInitial() {
+    return this.initial;
+  }
+
+  public boolean isLong() {
+    return this.longStub;
+  }
+}
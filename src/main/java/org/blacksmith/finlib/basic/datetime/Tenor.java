@@ -4,12 +4,14 @@ import java.io.Serializable;
 import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.Period;
-import java.time.format.DateTimeParseException;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAmount;
 import java.time.temporal.TemporalUnit;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.blacksmith.commons.arg.ArgChecker;
 
@@ -23,6 +25,9 @@ import org.blacksmith.commons.arg.ArgChecker;
  * thus it is possible to have a tenor of 12 months and a different one of 1 year.
  * When used, standard date addition rules apply, thus there is no difference between them.
  * Call {@link #normalized()} to apply normalization.
+ * <p>
+ * Tenors are canonical: factory methods and {@link #parse(String)} return cached instances,
+ * so no tenor is allocated for a period seen before.
  * <h4>Usage</h4>
  * {@code Tenor} implements {@code TemporalAmount} allowing it to be directly added to a date:
  * <pre>
@@ -30,6 +35,16 @@ import org.blacksmith.commons.arg.ArgChecker;
  * </pre>
  */
 public final class Tenor implements DateOperation, Comparable<Tenor>, Serializable {
+  /**
+   * Cached tenors of days up to 52 weeks, of months and of years, indexed by amount.
+   */
+  private static final AtomicReferenceArray<Tenor> dayTenors = new AtomicReferenceArray<>(7 * 53);
+  private static final AtomicReferenceArray<Tenor> monthTenors = new AtomicReferenceArray<>(241);
+  private static final AtomicReferenceArray<Tenor> yearTenors = new AtomicReferenceArray<>(101);
+  /**
+   * Cached tenors of other periods.
+   */
+  private static final ConcurrentMap<Period, Tenor> tenorMap = new ConcurrentHashMap<>();
   /**
    * A tenor of one day.
    */
@@ -282,7 +297,7 @@ public final class Tenor implements DateOperation, Comparable<Tenor>, Serializab
     if (months == 0 && days != 0) {
       return ofDays(days);
     }
-    return new Tenor(period, period.toString().substring(1));
+    return of(period.getYears(), period.getMonths(), days);
   }
 
   /**
@@ -295,10 +310,7 @@ public final class Tenor implements DateOperation, Comparable<Tenor>, Serializab
    * @throws IllegalArgumentException if days is negative or zero
    */
   public static Tenor ofDays(int days) {
-    if (days % 7 == 0) {
-      return ofWeeks(days / 7);
-    }
-    return new Tenor(Period.ofDays(days), days + "D");
+    return cached(dayTenors, days, 0, 0, days);
   }
 
   /**
@@ -309,7 +321,7 @@ public final class Tenor implements DateOperation, Comparable<Tenor>, Serializab
    * @throws IllegalArgumentException if weeks is negative or zero
    */
   public static Tenor ofWeeks(int weeks) {
-    return new Tenor(Period.ofWeeks(weeks), weeks + "W");
+    return ofDays(Math.multiplyExact(weeks, 7));
   }
 
   /**
@@ -322,7 +334,7 @@ public final class Tenor implements DateOperation, Comparable<Tenor>, Serializab
    * @throws IllegalArgumentException if months is negative or zero
    */
   public static Tenor ofMonths(int months) {
-    return new Tenor(Period.ofMonths(months), months + "M");
+    return cached(monthTenors, months, 0, months, 0);
   }
 
   /**
@@ -333,19 +345,89 @@ public final class Tenor implements DateOperation, Comparable<Tenor>, Serializab
    * @throws IllegalArgumentException if years is negative or zero
    */
   public static Tenor ofYears(int years) {
-    return new Tenor(Period.ofYears(years), years + "Y");
+    return cached(yearTenors, years, years, 0, 0);
+  }
+
+  private static Tenor of(int years, int months, int days) {
+    if (years == 0 && months == 0) {
+      return ofDays(days);
+    }
+    if (months == 0 && days == 0) {
+      return ofYears(years);
+    }
+    if (years == 0 && days == 0) {
+      return ofMonths(months);
+    }
+    return canonical(years, months, days);
+  }
+
+  private static Tenor cached(AtomicReferenceArray<Tenor> cache, int amount, int years, int months, int days) {
+    if (amount <= 0 || amount >= cache.length()) {
+      return canonical(years, months, days);
+    }
+    Tenor tenor = cache.get(amount);
+    if (tenor == null) {
+      tenor = create(years, months, days);
+      if (!cache.compareAndSet(amount, null, tenor)) {
+        tenor = cache.get(amount);
+      }
+    }
+    return tenor;
+  }
+
+  private static Tenor canonical(int years, int months, int days) {
+    if (years < 0 || months < 0 || days < 0 || (years | months | days) == 0) {
+      // invalid, rejected by the constructor
+      return create(years, months, days);
+    }
+    return tenorMap.computeIfAbsent(Period.of(years, months, days),
+        p -> create(p.getYears(), p.getMonths(), p.getDays()));
+  }
+
+  private static Tenor create(int years, int months, int days) {
+    if (years == 0 && months == 0) {
+      return new Tenor(Period.ofDays(days), days % 7 == 0 ? days / 7 + "W" : days + "D");
+    }
+    if (months == 0 && days == 0) {
+      return new Tenor(Period.ofYears(years), years + "Y");
+    }
+    if (years == 0 && days == 0) {
+      return new Tenor(Period.ofMonths(months), months + "M");
+    }
+    Period period = Period.of(years, months, days);
+    return new Tenor(period, period.toString().substring(1));
   }
 
   //-------------------------------------------------------------------------
 
   //-------------------------------------------------------------------------
+  /**
+   * Parses a tenor, e.g. {@code 3M}, {@code P6M}, {@code 2W} or {@code 1Y6M}.
+   * <p>
+   * The prefix {@code P} is optional. Units must be in order of years, months, weeks and days,
+   * weeks are converted to days.
+   *
+   * @param toParse the text to parse
+   * @return the tenor
+   * @throws IllegalArgumentException if the text is not a valid tenor
+   */
   public static Tenor parse(String toParse) {
-    String prefixed = toParse.startsWith("P") ? toParse : "P" + toParse;
-    try {
-      return Tenor.of(Period.parse(prefixed));
-    } catch (DateTimeParseException ex) {
-      throw new IllegalArgumentException(ex);
-    }
+    ArgChecker.notNull(toParse, "Tenor must be not null");
+    return parse(toParse, 0, toParse.length());
+  }
+
+  /**
+   * Parses a tenor from a part of the text, without allocation for a tenor seen before.
+   *
+   * @param text  the text
+   * @param start the start index, inclusive
+   * @param end   the end index, exclusive
+   * @return the tenor
+   * @throws IllegalArgumentException if the text is not a valid tenor
+   */
+  public static Tenor parse(CharSequence text, int start, int end) {
+    long parsed = PeriodParser.parse(text, start, end);
+    return of(PeriodParser.years(parsed), PeriodParser.months(parsed), PeriodParser.days(parsed));
   }
 
   /**
@@ -485,6 +567,30 @@ public final class Tenor implements DateOperation, Comparable<Tenor>, Serializab
     return period.subtractFrom(temporal);
   }
 
+  /**
+   * Adds this tenor to the date given as epoch day, as {@link #addTo(Temporal)} adds it to a {@code LocalDate}.
+   *
+   * @param epochDay the date as epoch day
+   * @return the result as epoch day
+   */
+  public int addToEpochDay(int epochDay) {
+    return addToEpochDay(epochDay, 1, false);
+  }
+
+  /**
+   * Adds this tenor {@code times} times to the date given as epoch day, months first, then days.
+   *
+   * @param epochDay  the date as epoch day
+   * @param times     the multiplier, may be negative
+   * @param eomAdjust whether to keep the end of month when adding months
+   * @return the result as epoch day
+   */
+  public int addToEpochDay(int epochDay, int times, boolean eomAdjust) {
+    int months = Math.multiplyExact(Math.toIntExact(period.toTotalMonths()), times);
+    int date = eomAdjust ? EpochDays.plusMonthsEom(epochDay, months) : EpochDays.plusMonths(epochDay, months);
+    return Math.addExact(date, Math.multiplyExact(period.getDays(), times));
+  }
+
   /**
    * Compares this tenor to another tenor.
    * <p>
@@ -574,6 +680,6 @@ public final class Tenor implements DateOperation, Comparable<Tenor>, Serializab
 
   // safe deserialization
   private Object readResolve() {
-    return new Tenor(period, name);
+    return of(period);
   }
 }
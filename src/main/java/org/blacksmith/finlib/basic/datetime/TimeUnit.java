@@ -16,11 +16,13 @@ public enum TimeUnit implements DateOperationExt {
   YEAR("Y", "Year", ChronoUnit.YEARS, 1, true);
 
   private static final EnumConverter<String, TimeUnit> unitConverter = EnumValueConverter.of(TimeUnit.class, TimeUnit::symbol);
+  private static final TimeUnit[] units = values();
   private final String symbol;
   private final String unitName;
   private final ChronoUnit chronoUnit;
   private final int chronoUnitCount;
   private final boolean isEomAdjustAvailable;
+  private final int monthsPerUnit;
 
   TimeUnit(String symbol, String unitName, ChronoUnit chronoUnit, int chronoUnitCount,
       boolean isEomAdjustAvailable) {
@@ -29,12 +31,29 @@ public enum TimeUnit implements DateOperationExt {
     this.chronoUnit = chronoUnit;
     this.chronoUnitCount = chronoUnitCount;
     this.isEomAdjustAvailable = isEomAdjustAvailable;
+    this.monthsPerUnit = chronoUnit == ChronoUnit.YEARS ? 12 * chronoUnitCount
+        : chronoUnit == ChronoUnit.MONTHS ? chronoUnitCount : 0;
   }
 
   public static TimeUnit ofSymbol(String symbol) {
     return unitConverter.convert(symbol);
   }
 
+  /**
+   * Gets unit of the one character symbol.
+   *
+   * @param symbol the symbol
+   * @return the unit or null if there is no unit of the symbol
+   */
+  public static TimeUnit ofSymbol(char symbol) {
+    for (TimeUnit unit : units) {
+      if (unit.symbol.charAt(0) == symbol) {
+        return unit;
+      }
+    }
+    return null;
+  }
+
   @Override
   public <T extends Temporal> T addTo(T temporal) {
     return chronoUnit.addTo(temporal, chronoUnitCount);
@@ -68,7 +87,35 @@ public enum TimeUnit implements DateOperationExt {
       x = (T) x.minus(1, ChronoUnit.DAYS);
       return x;
     } else {
-      return chronoUnit.addTo(temporal, chronoUnitCount);
+      return chronoUnit.addTo(temporal, q * chronoUnitCount);
+    }
+  }
+
+  /**
+   * Adds the unit to the date given as epoch day.
+   */
+  public int addToEpochDay(int epochDay) {
+    return addToEpochDay(epochDay, 1, false);
+  }
+
+  /**
+   * Adds the unit {@code q} times to the date given as epoch day, with the same result as
+   * {@link #addToWithEomAdjust(Temporal, int, boolean)} on {@code LocalDate}.
+   *
+   * @param epochDay  the date as epoch day
+   * @param q         the number of units, may be negative
+   * @param eomAdjust whether to keep the end of month for month based units
+   * @return the result as epoch day
+   */
+  public int addToEpochDay(int epochDay, int q, boolean eomAdjust) {
+    switch (this) {
+      case DAY:
+        return Math.addExact(epochDay, q);
+      case WEEK:
+        return Math.addExact(epochDay, Math.multiplyExact(q, 7));
+      default:
+        int months = Math.multiplyExact(q, this.monthsPerUnit);
+        return eomAdjust && isEomAdjustAvailable ? EpochDays.plusMonthsEom(epochDay, months) : EpochDays.plusMonths(epochDay, months);
     }
   }
 
@@ -3,13 +3,20 @@ package org.blacksmith.finlib.basic.numbers;
 import java.io.Serializable;
 import java.math.BigDecimal;
 
+import org.blacksmith.commons.arg.ArgChecker;
+
 public class Amount extends DecimalRounded<Amount> implements Serializable {
 
   public static final int DEFAULT_PRECISION = 2;
-  public static final Amount ZERO = new Amount(BigDecimal.ZERO, DEFAULT_PRECISION);
-  public static final Amount ONE = new Amount(BigDecimal.ONE, DEFAULT_PRECISION);
-  public static final Amount TEN = new Amount(BigDecimal.TEN, DEFAULT_PRECISION);
-  public static final Amount HUNDRED = new Amount(100, DEFAULT_PRECISION);
+  /**
+   * Cached integral amounts from -128 to 1024 with up to 9 decimal places.
+   */
+  private static final DecimalRoundedCache<Amount> CACHE =
+      new DecimalRoundedCache<>(0, -128, 1024, 9, (v, dp) -> new Amount(v, null, dp));
+  public static final Amount ZERO = Amount.of(0, DEFAULT_PRECISION);
+  public static final Amount ONE = Amount.of(1, DEFAULT_PRECISION);
+  public static final Amount TEN = Amount.of(10, DEFAULT_PRECISION);
+  public static final Amount HUNDRED = Amount.of(100, DEFAULT_PRECISION);
   private static final long serialVersionUID = 1L;
 
   public Amount(DecimalRounded<?> value) {
@@ -52,48 +59,83 @@ public class Amount extends DecimalRounded<Amount> implements Serializable {
     super(value, DEFAULT_PRECISION);
   }
 
+  protected Amount(long unscaledValue, BigDecimal value, int decimalPlaces) {
+    super(unscaledValue, value, decimalPlaces);
+  }
+
   public static Amount of(DecimalRounded<?> value, int decimalPlaces) {
+    ArgChecker.notNull(value, "Value must be not null");
+    if (value.isCompact() && FixedPoint.isSupportedScale(decimalPlaces)) {
+      long unscaledValue = FixedPoint.rescale(value.unscaledValue(), value.decimalPlaces(), decimalPlaces);
+      if (unscaledValue != FixedPoint.INFLATED) {
+        return createCompact(unscaledValue, decimalPlaces);
+      }
+    }
     return new Amount(value, decimalPlaces);
   }
 
   public static Amount of(DecimalRounded<?> value) {
-    return new Amount(value);
+    ArgChecker.notNull(value, "Value must be not null");
+    return of(value, value.decimalPlaces());
   }
 
   public static Amount of(BigDecimal value, int decimalPlaces) {
-    return new Amount(value, decimalPlaces);
+    ArgChecker.notNull(value, "Value must be not null");
+    long unscaledValue = FixedPoint.valueOf(value, decimalPlaces);
+    return unscaledValue != FixedPoint.INFLATED ? createCompact(unscaledValue, decimalPlaces)
+        : new Amount(value, decimalPlaces);
   }
 
   public static Amount of(BigDecimal value) {
-    return new Amount(value, DEFAULT_PRECISION);
+    return of(value, DEFAULT_PRECISION);
   }
 
   public static Amount of(String value, int decimalPlaces) {
-    return new Amount(value, decimalPlaces);
+    ArgChecker.notNull(value, "Value must be not null");
+    return of(new BigDecimal(value), decimalPlaces);
   }
 
   public static Amount of(String value) {
-    return new Amount(value);
+    return of(value, DEFAULT_PRECISION);
   }
 
   public static Amount of(double value, int decimalPlaces) {
-    return new Amount(value, decimalPlaces);
+    return of(BigDecimal.valueOf(value), decimalPlaces);
   }
 
   public static Amount of(double value) {
-    return new Amount(value);
+    return of(value, DEFAULT_PRECISION);
   }
 
   public static Amount of(long value, int decimalPlaces) {
-    return new Amount(value, decimalPlaces);
+    long unscaledValue = FixedPoint.valueOf(value, decimalPlaces);
+    Amount cached = unscaledValue != FixedPoint.INFLATED ? CACHE.get(unscaledValue, decimalPlaces) : null;
+    return cached != null ? cached : new Amount(value, decimalPlaces);
   }
 
   public static Amount of(long value) {
-    return new Amount(value);
+    return of(value, DEFAULT_PRECISION);
+  }
+
+  public static Amount ofUnscaled(long unscaledValue, int decimalPlaces) {
+    if (unscaledValue != FixedPoint.INFLATED && FixedPoint.isSupportedScale(decimalPlaces)) {
+      return createCompact(unscaledValue, decimalPlaces);
+    }
+    return new Amount(unscaledValue, BigDecimal.valueOf(unscaledValue, decimalPlaces), decimalPlaces);
   }
 
   @Override
   protected Amount create(BigDecimal value, int decimalPlaces) {
-    return new Amount(value, decimalPlaces);
+    return of(value, decimalPlaces);
+  }
+
+  @Override
+  protected Amount createOfUnscaled(long unscaledValue, int decimalPlaces) {
+    return createCompact(unscaledValue, decimalPlaces);
+  }
+
+  private static Amount createCompact(long unscaledValue, int decimalPlaces) {
+    Amount cached = CACHE.get(unscaledValue, decimalPlaces);
+    return cached != null ? cached : new Amount(unscaledValue, null, decimalPlaces);
   }
 }
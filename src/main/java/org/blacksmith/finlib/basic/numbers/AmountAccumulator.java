@@ -0,0 +1,164 @@
+package org.blacksmith.finlib.basic.numbers;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.stream.Collector;
+
+import org.blacksmith.commons.arg.ArgChecker;
+
+/**
+ * Mutable accumulator summing amounts without creating intermediate objects.
+ * <p>
+ * Values are summed exactly as unscaled longs with the highest scale seen so far,
+ * the result is rounded only once, to the target decimal places.
+ * When the sum does not fit into a long the accumulator switches to {@link BigDecimal}.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class AmountAccumulator {
+
+  private final int decimalPlaces;
+  private long unscaledSum;
+  private int scale;
+  private BigDecimal inflatedSum;
+
+  public AmountAccumulator(int decimalPlaces) {
+    this.decimalPlaces = decimalPlaces;
+  }
+
+  public AmountAccumulator() {
+    this(Amount.DEFAULT_PRECISION);
+  }
+
+  public static AmountAccumulator of(int decimalPlaces) {
+    return new AmountAccumulator(decimalPlaces);
+  }
+
+  /**
+   * Collector summing amounts, rounding result to the given decimal places.
+   *
+   * @param decimalPlaces the decimal places of the result
+   * @return the collector
+   */
+  public static Collector<DecimalRounded<?>, AmountAccumulator, Amount> summing(int decimalPlaces) {
+    return Collector.of(() -> new AmountAccumulator(decimalPlaces),
+        AmountAccumulator::add,
+        AmountAccumulator::combine,
+        AmountAccumulator::toAmount);
+  }
+
+  /**
+   * Collector summing amounts, rounding result to {@link Amount#DEFAULT_PRECISION}.
+   *
+   * @return the collector
+   */
+  public static Collector<DecimalRounded<?>, AmountAccumulator, Amount> summing() {
+    return summing(Amount.DEFAULT_PRECISION);
+  }
+
+  public AmountAccumulator add(DecimalRounded<?> value) {
+    ArgChecker.notNull(value, "Value must be not null");
+    if (value.isCompact()) {
+      return addUnscaled(value.unscaledValue(), value.decimalPlaces());
+    }
+    return add(value.getValue());
+  }
+
+  public AmountAccumulator add(BigDecimal value) {
+    ArgChecker.notNull(value, "Value must be not null");
+    if (this.inflatedSum == null && FixedPoint.isSupportedScale(value.scale())) {
+      long unscaled = FixedPoint.valueOf(value, value.scale());
+      if (unscaled != FixedPoint.INFLATED) {
+        return addUnscaled(unscaled, value.scale());
+      }
+    }
+    return addInflated(value);
+  }
+
+  public AmountAccumulator addUnscaled(long unscaledValue, int scale) {
+    if (this.inflatedSum == null && unscaledValue != FixedPoint.INFLATED && FixedPoint.isSupportedScale(scale)) {
+      if (scale > this.scale) {
+        long rescaled = FixedPoint.rescale(this.unscaledSum, this.scale, scale);
+        if (rescaled != FixedPoint.INFLATED) {
+          this.unscaledSum = rescaled;
+          this.scale = scale;
+        }
+      }
+      long aligned = scale <= this.scale ? FixedPoint.rescale(unscaledValue, scale, this.scale) : FixedPoint.INFLATED;
+      long sum = aligned != FixedPoint.INFLATED ? FixedPoint.add(this.unscaledSum, aligned) : FixedPoint.INFLATED;
+      if (sum != FixedPoint.INFLATED) {
+        this.unscaledSum = sum;
+        return this;
+      }
+    }
+    return addInflated(BigDecimal.valueOf(unscaledValue, scale));
+  }
+
+  public AmountAccumulator subtract(DecimalRounded<?> value) {
+    ArgChecker.notNull(value, "Value must be not null");
+    if (value.isCompact()) {
+      return addUnscaled(-value.unscaledValue(), value.decimalPlaces());
+    }
+    return add(value.getValue().negate());
+  }
+
+  public AmountAccumulator combine(AmountAccumulator other) {
+    ArgChecker.notNull(other, "Accumulator must be not null");
+    if (other.inflatedSum != null) {
+      return add(other.inflatedSum);
+    }
+    return addUnscaled(other.unscaledSum, other.scale);
+  }
+
+  public AmountAccumulator reset() {
+    this.unscaledSum = 0;
+    this.scale = 0;
+    this.inflatedSum = null;
+    return this;
+  }
+
+  public int decimalPlaces() {
+    return this.decimalPlaces;
+  }
+
+  public boolean isInflated() {
+    return this.inflatedSum != null;
+  }
+
+  /**
+   * Gets the exact (not rounded) sum.
+   *
+   * @return the sum
+   */
+  public BigDecimal getExactValue() {
+    return this.inflatedSum != null ? this.inflatedSum : BigDecimal.valueOf(this.unscaledSum, this.scale);
+  }
+
+  /**
+   * Gets the sum rounded HALF_UP to the target decimal places.
+   *
+   * @return the sum
+   */
+  public Amount toAmount() {
+    if (this.inflatedSum == null && FixedPoint.isSupportedScale(this.decimalPlaces)) {
+      long rounded = FixedPoint.rescale(this.unscaledSum, this.scale, this.decimalPlaces);
+      if (rounded != FixedPoint.INFLATED) {
+        return Amount.ofUnscaled(rounded, this.decimalPlaces);
+      }
+    }
+    return Amount.of(getExactValue().setScale(this.decimalPlaces, RoundingMode.HALF_UP), this.decimalPlaces);
+  }
+
+  @Override
+  public String toString() {
+    return "AmountAccumulator{sum=" + getExactValue().toPlainString() + ", decimalPlaces=" + decimalPlaces + '}';
+  }
+
+  private AmountAccumulator addInflated(BigDecimal value) {
+    if (this.inflatedSum == null) {
+      this.inflatedSum = BigDecimal.valueOf(this.unscaledSum, this.scale);
+    }
+    this.inflatedSum = this.inflatedSum.add(value);
+    return this;
+  }
+}
@@ -0,0 +1,48 @@
+package org.blacksmith.finlib.basic.numbers;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+import org.blacksmith.commons.arg.ArgChecker;
+
+public class AmountVector extends DecimalVector<AmountVector, Amount> {
+
+  protected AmountVector(long[] values, int decimalPlaces) {
+    super(values, decimalPlaces);
+  }
+
+  public static AmountVector of(Collection<? extends DecimalRounded<?>> values, int decimalPlaces) {
+    return new AmountVector(toUnscaled(values, decimalPlaces), decimalPlaces);
+  }
+
+  public static AmountVector of(Collection<? extends DecimalRounded<?>> values) {
+    return of(values, Amount.DEFAULT_PRECISION);
+  }
+
+  public static AmountVector ofUnscaled(long[] unscaledValues, int decimalPlaces) {
+    ArgChecker.notNull(unscaledValues, "Values must be not null");
+    for (long value : unscaledValues) {
+      ArgChecker.isTrue(value != FixedPoint.INFLATED, "Value does not fit into vector");
+    }
+    return new AmountVector(unscaledValues.clone(), decimalPlaces);
+  }
+
+  public static AmountVector zeros(int size, int decimalPlaces) {
+    return new AmountVector(new long[size], decimalPlaces);
+  }
+
+  @Override
+  protected AmountVector create(long[] values, int decimalPlaces) {
+    return new AmountVector(values, decimalPlaces);
+  }
+
+  @Override
+  protected Amount createElement(long unscaledValue, int decimalPlaces) {
+    return Amount.ofUnscaled(unscaledValue, decimalPlaces);
+  }
+
+  @Override
+  protected Amount createElement(BigDecimal value, int decimalPlaces) {
+    return Amount.of(value, decimalPlaces);
+  }
+}
@@ -11,8 +11,15 @@ import com.fasterxml.jackson.annotation.JsonValue;
 public abstract class DecimalRounded<T extends DecimalRounded<T>>
     implements Comparable<DecimalRounded<?>> {
 
-  private final BigDecimal value;
+  /**
+   * Unscaled value, {@link FixedPoint#INFLATED} when the value does not fit into a long.
+   */
+  private final long unscaledValue;
   private final int decimalPlaces;
+  /**
+   * BigDecimal representation, for compact values created lazily.
+   */
+  private BigDecimal value;
 
   /**
    * All constructors - fraction lower than precision will be truncated.
@@ -20,19 +27,41 @@ public abstract class DecimalRounded<T extends DecimalRounded<T>>
   public DecimalRounded(DecimalRounded<?> value) {
     ArgChecker.notNull(value);
     this.decimalPlaces = value.decimalPlaces;
-    this.value = value.getValue();
+    this.unscaledValue = value.unscaledValue;
+    this.value = value.value;
   }
 
   public DecimalRounded(DecimalRounded<?> other, int decimalPlaces) {
     ArgChecker.notNull(other);
     this.decimalPlaces = decimalPlaces;
-    this.value = alignBigDecimalValue(other.value, decimalPlaces);
+    long unscaled = FixedPoint.INFLATED;
+    if (other.isCompact() && FixedPoint.isSupportedScale(decimalPlaces)) {
+      unscaled = FixedPoint.rescale(other.unscaledValue, other.decimalPlaces, decimalPlaces);
+    }
+    this.unscaledValue = unscaled;
+    this.value = unscaled == FixedPoint.INFLATED ? alignBigDecimalValue(other.getValue(), decimalPlaces) : null;
   }
 
   public DecimalRounded(BigDecimal value, int decimalPlaces) {
     ArgChecker.notNull(value);
     this.decimalPlaces = decimalPlaces;
     this.value = alignBigDecimalValue(value, decimalPlaces);
+    this.unscaledValue = FixedPoint.valueOf(this.value, decimalPlaces);
+  }
+
+  /**
+   * Creates instance from unscaled value, {@code value} is used when {@code unscaledValue} is inflated.
+   */
+  protected DecimalRounded(long unscaledValue, BigDecimal value, int decimalPlaces) {
+    this.decimalPlaces = decimalPlaces;
+    if (unscaledValue == FixedPoint.INFLATED || !FixedPoint.isSupportedScale(decimalPlaces)) {
+      ArgChecker.notNull(value);
+      this.unscaledValue = FixedPoint.INFLATED;
+      this.value = alignBigDecimalValue(value, decimalPlaces);
+    } else {
+      this.unscaledValue = unscaledValue;
+      this.value = null;
+    }
   }
 
   public DecimalRounded(String value, int decimalPlaces) {
@@ -44,7 +73,10 @@ public abstract class DecimalRounded<T extends DecimalRounded<T>>
   }
 
   public DecimalRounded(long value, int decimalPlaces) {
-    this(BigDecimal.valueOf(value), decimalPlaces);
+    this.decimalPlaces = decimalPlaces;
+    this.unscaledValue = FixedPoint.valueOf(value, decimalPlaces);
+    this.value = this.unscaledValue == FixedPoint.INFLATED
+        ? alignBigDecimalValue(BigDecimal.valueOf(value), decimalPlaces) : null;
   }
 
   public static <T extends DecimalRounded<T>> T min(T v1, T v2) {
@@ -56,7 +88,7 @@ public abstract class DecimalRounded<T extends DecimalRounded<T>>
   }
 
   public T add(BigDecimal augend, int decimalPlaces) {
-    return create(this.value.add(augend), decimalPlaces);
+    return create(getValue().add(augend), decimalPlaces);
   }
 
   public T add(BigDecimal augend) {
@@ -64,11 +96,18 @@ public abstract class DecimalRounded<T extends DecimalRounded<T>>
   }
 
   public T add(DecimalRounded<?> augend, int decimalPlaces) {
-    return add(augend.value, decimalPlaces);
+    if (isCompact() && augend.isCompact() && FixedPoint.isSupportedScale(decimalPlaces)) {
+      long result = FixedPoint.add(this.unscaledValue, this.decimalPlaces,
+          augend.unscaledValue, augend.decimalPlaces, decimalPlaces);
+      if (result != FixedPoint.INFLATED) {
+        return createOfUnscaled(result, decimalPlaces);
+      }
+    }
+    return add(augend.getValue(), decimalPlaces);
   }
 
   public T add(DecimalRounded<?> augend) {
-    return add(augend.value);
+    return add(augend, this.decimalPlaces);
   }
 
   public T add(double augend, int decimalPlaces) {
@@ -80,7 +119,7 @@ public abstract class DecimalRounded<T extends DecimalRounded<T>>
   }
 
   public T subtract(BigDecimal subtrahend, int decimalPlaces) {
-    return create(this.value.subtract(subtrahend), decimalPlaces);
+    return create(getValue().subtract(subtrahend), decimalPlaces);
   }
 
   public T subtract(BigDecimal subtrahend) {
@@ -88,11 +127,18 @@ public abstract class DecimalRounded<T extends DecimalRounded<T>>
   }
 
   public T subtract(DecimalRounded<?> subtrahend, int decimalPlaces) {
-    return subtract(subtrahend.value, decimalPlaces);
+    if (isCompact() && subtrahend.isCompact() && FixedPoint.isSupportedScale(decimalPlaces)) {
+      long result = FixedPoint.subtract(this.unscaledValue, this.decimalPlaces,
+          subtrahend.unscaledValue, subtrahend.decimalPlaces, decimalPlaces);
+      if (result != FixedPoint.INFLATED) {
+        return createOfUnscaled(result, decimalPlaces);
+      }
+    }
+    return subtract(subtrahend.getValue(), decimalPlaces);
   }
 
   public T subtract(DecimalRounded<?> subtrahend) {
-    return subtract(subtrahend.value);
+    return subtract(subtrahend, this.decimalPlaces);
   }
 
   public T subtract(double subtrahend, int decimalPlaces) {
@@ -106,7 +152,7 @@ public abstract class DecimalRounded<T extends DecimalRounded<T>>
   }
 
   public T multiply(BigDecimal multiplicand, int decimalPlaces) {
-    return create(this.value.multiply(multiplicand), decimalPlaces);
+    return create(getValue().multiply(multiplicand), decimalPlaces);
   }
 
   public T multiply(BigDecimal multiplicand) {
@@ -114,11 +160,18 @@ public abstract class DecimalRounded<T extends DecimalRounded<T>>
   }
 
   public T multiply(DecimalRounded<?> multiplicand, int decimalPlaces) {
-    return multiply(multiplicand.value, decimalPlaces);
+    if (isCompact() && multiplicand.isCompact() && FixedPoint.isSupportedScale(decimalPlaces)) {
+      long result = FixedPoint.multiply(this.unscaledValue, this.decimalPlaces,
+          multiplicand.unscaledValue, multiplicand.decimalPlaces, decimalPlaces);
+      if (result != FixedPoint.INFLATED) {
+        return createOfUnscaled(result, decimalPlaces);
+      }
+    }
+    return multiply(multiplicand.getValue(), decimalPlaces);
   }
 
   public T multiply(DecimalRounded<?> multiplicand) {
-    return multiply(multiplicand.value);
+    return multiply(multiplicand, this.decimalPlaces);
   }
 
   public T multiply(double multiplicand, int decimalPlaces) {
@@ -132,7 +185,7 @@ public abstract class DecimalRounded<T extends DecimalRounded<T>>
   }
 
   public T divide(BigDecimal divisor, int decimalPlaces) {
-    return create(this.value.divide(divisor, decimalPlaces + 1, RoundingMode.HALF_UP), decimalPlaces);
+    return create(getValue().divide(divisor, decimalPlaces + 1, RoundingMode.HALF_UP), decimalPlaces);
   }
 
   public T divide(BigDecimal divisor) {
@@ -140,11 +193,11 @@ public abstract class DecimalRounded<T extends DecimalRounded<T>>
   }
 
   public T divide(DecimalRounded<?> divisor, int decimalPlaces) {
-    return divide(divisor.value, decimalPlaces);
+    return divide(divisor.getValue(), decimalPlaces);
   }
 
   public T divide(DecimalRounded<?> divisor) {
-    return divide(divisor.value);
+    return divide(divisor.getValue());
   }
 
   public T divide(double divisor, int decimalPlaces) {
@@ -156,7 +209,7 @@ public abstract class DecimalRounded<T extends DecimalRounded<T>>
   }
 
   public T inverse(int decimalPlaces) {
-    return create(BigDecimal.ONE.divide(this.value, decimalPlaces+1, RoundingMode.HALF_UP), decimalPlaces);
+    return create(BigDecimal.ONE.divide(getValue(), decimalPlaces+1, RoundingMode.HALF_UP), decimalPlaces);
   }
 
   public T inverse() {
@@ -164,19 +217,33 @@ public abstract class DecimalRounded<T extends DecimalRounded<T>>
   }
 
   public T negate() {
+    if (isCompact()) {
+      return createOfUnscaled(-this.unscaledValue, this.decimalPlaces);
+    }
     return create(this.value.negate(), this.decimalPlaces);
   }
 
   public T abs() {
+    if (isCompact()) {
+      return this.unscaledValue < 0 ? createOfUnscaled(-this.unscaledValue, this.decimalPlaces) : self();
+    }
     return create(this.value.abs(), this.decimalPlaces);
   }
 
   @JsonValue
   public BigDecimal getValue() {
-    return value;
+    BigDecimal result = this.value;
+    if (result == null) {
+      result = FixedPoint.toBigDecimal(this.unscaledValue, this.decimalPlaces);
+      this.value = result;
+    }
+    return result;
   }
 
   public double doubleValue() {
+    if (isCompact()) {
+      return FixedPoint.toDouble(this.unscaledValue, this.decimalPlaces);
+    }
     return this.value.doubleValue();
   }
 
@@ -184,34 +251,59 @@ public abstract class DecimalRounded<T extends DecimalRounded<T>>
     return this.decimalPlaces;
   }
 
+  /**
+   * Checks if the value is held as an unscaled long.
+   *
+   * @return true if {@link #unscaledValue()} is available
+   */
+  public boolean isCompact() {
+    return this.unscaledValue != FixedPoint.INFLATED;
+  }
+
+  /**
+   * Gets the unscaled value with scale {@link #decimalPlaces()}.
+   *
+   * @return the unscaled value or {@link FixedPoint#INFLATED} if the value does not fit into a long
+   */
+  public long unscaledValue() {
+    return this.unscaledValue;
+  }
+
   public boolean isPositiveOrZero() {
-    return this.value.signum() >= 0;
+    return signum() >= 0;
   }
 
   public boolean isPositive() {
-    return this.value.signum() > 0;
+    return signum() > 0;
   }
 
   public boolean isZero() {
-    return this.value.signum() == 0;
+    return signum() == 0;
   }
 
   public boolean isNegative() {
-    return this.value.signum() < 0;
+    return signum() < 0;
   }
 
   public boolean isNegativeOrZero() {
-    return value.signum() <= 0;
+    return signum() <= 0;
+  }
+
+  public int signum() {
+    return isCompact() ? Long.signum(this.unscaledValue) : this.value.signum();
   }
 
   @Override
   public int compareTo(DecimalRounded o) {
-    return this.value.compareTo(o.value);
+    if (isCompact() && o.isCompact()) {
+      return FixedPoint.compare(this.unscaledValue, this.decimalPlaces, o.unscaledValue, o.decimalPlaces);
+    }
+    return getValue().compareTo(o.getValue());
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(value);
+    return Objects.hash(getValue());
   }
 
   @Override
@@ -223,17 +315,24 @@ public abstract class DecimalRounded<T extends DecimalRounded<T>>
       return false;
     }
     final DecimalRounded<?> dr = (DecimalRounded<?>) o;
-    return value.compareTo(dr.value) == 0;
+    return compareTo(dr) == 0;
   }
 
   @Override
   public String toString() {
-    return this.value.toPlainString();
+    return getValue().toPlainString();
   }
 
   protected abstract T create(BigDecimal value, int decimalPlaces);
 
+  protected abstract T createOfUnscaled(long unscaledValue, int decimalPlaces);
+
+  @SuppressWarnings("unchecked")
+  private T self() {
+    return (T) this;
+  }
+
   private BigDecimal alignBigDecimalValue(BigDecimal value, int decimalPlaces) {
-    return value.setScale(decimalPlaces, RoundingMode.HALF_UP);
+    return value.scale() == decimalPlaces ? value : value.setScale(decimalPlaces, RoundingMode.HALF_UP);
   }
 }
@@ -0,0 +1,65 @@
+package org.blacksmith.finlib.basic.numbers;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Cache of frequently used values, similar to {@link Integer#valueOf(int)}.
+ * <p>
+ * For every supported number of decimal places the cache holds values {@code k / 10^stepDecimals}
+ * for {@code k} from {@code low} to {@code high}, e.g. integral amounts or whole percents.
+ * Instances are created on first use.
+ */
+final class DecimalRoundedCache<T extends DecimalRounded<T>> {
+
+  private final int stepDecimals;
+  private final int low;
+  private final int high;
+  private final int maxDecimalPlaces;
+  private final Factory<T> factory;
+  private final AtomicReferenceArray<T>[] cache;
+
+  @SuppressWarnings("unchecked")
+  DecimalRoundedCache(int stepDecimals, int low, int high, int maxDecimalPlaces, Factory<T> factory) {
+    this.stepDecimals = stepDecimals;
+    this.low = low;
+    this.high = high;
+    this.maxDecimalPlaces = Math.min(maxDecimalPlaces, FixedPoint.MAX_SCALE);
+    this.factory = factory;
+    this.cache = new AtomicReferenceArray[this.maxDecimalPlaces + 1];
+    for (int i = stepDecimals; i <= this.maxDecimalPlaces; i++) {
+      this.cache[i] = new AtomicReferenceArray<>(high - low + 1);
+    }
+  }
+
+  /**
+   * Gets the cached instance.
+   *
+   * @param unscaledValue the unscaled value
+   * @param decimalPlaces the decimal places
+   * @return the cached instance or null if the value is not cached
+   */
+  T get(long unscaledValue, int decimalPlaces) {
+    if (decimalPlaces < this.stepDecimals || decimalPlaces > this.maxDecimalPlaces) {
+      return null;
+    }
+    long step = FixedPoint.powerOfTen(decimalPlaces - this.stepDecimals);
+    if (unscaledValue < this.low * step || unscaledValue > this.high * step || unscaledValue % step != 0) {
+      return null;
+    }
+    int index = (int) (unscaledValue / step) - this.low;
+    AtomicReferenceArray<T> values = this.cache[decimalPlaces];
+    T value = values.get(index);
+    if (value == null) {
+      value = this.factory.create(unscaledValue, decimalPlaces);
+      if (!values.compareAndSet(index, null, value)) {
+        value = values.get(index);
+      }
+    }
+    return value;
+  }
+
+  @FunctionalInterface
+  interface Factory<T> {
+    T create(long unscaledValue, int decimalPlaces);
+  }
+}
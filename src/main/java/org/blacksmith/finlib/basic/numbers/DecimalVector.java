@@ -0,0 +1,354 @@
+package org.blacksmith.finlib.basic.numbers;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.blacksmith.commons.arg.ArgChecker;
+
+/**
+ * Fixed size vector of decimal values sharing the same decimal places.
+ * <p>
+ * Values are stored as unscaled longs in a contiguous array. Bulk operations follow
+ * {@link DecimalRounded} semantics: the exact result is rounded HALF_UP to the decimal places of the result.
+ * Operations producing a value that does not fit into a long throw {@link ArithmeticException}.
+ * <p>
+ * Vectors are immutable, every operation returns a new vector.
+ */
+public abstract class DecimalVector<V extends DecimalVector<V, E>, E extends DecimalRounded<E>> {
+
+  private final long[] values;
+  private final int decimalPlaces;
+
+  protected DecimalVector(long[] values, int decimalPlaces) {
+    ArgChecker.notNull(values, "Values must be not null");
+    ArgChecker.isTrue(FixedPoint.isSupportedScale(decimalPlaces),
+        () -> "Invalid decimal places, must be from 0 to " + FixedPoint.MAX_SCALE + " inclusive");
+    this.values = values;
+    this.decimalPlaces = decimalPlaces;
+  }
+
+  protected static long[] toUnscaled(Collection<? extends DecimalRounded<?>> values, int decimalPlaces) {
+    ArgChecker.notNull(values, "Values must be not null");
+    long[] result = new long[values.size()];
+    int i = 0;
+    for (DecimalRounded<?> value : values) {
+      result[i++] = toUnscaled(value, decimalPlaces);
+    }
+    return result;
+  }
+
+  protected static long toUnscaled(DecimalRounded<?> value, int decimalPlaces) {
+    ArgChecker.notNull(value, "Value must be not null");
+    long unscaled = FixedPoint.INFLATED;
+    if (value.isCompact()) {
+      unscaled = FixedPoint.rescale(value.unscaledValue(), value.decimalPlaces(), decimalPlaces);
+    }
+    if (unscaled == FixedPoint.INFLATED) {
+      unscaled = FixedPoint.valueOf(value.getValue(), decimalPlaces);
+    }
+    return checkOverflow(unscaled);
+  }
+
+  public int size() {
+    return this.values.length;
+  }
+
+  public int decimalPlaces() {
+    return this.decimalPlaces;
+  }
+
+  public E get(int index) {
+    return createElement(this.values[index], this.decimalPlaces);
+  }
+
+  public long getUnscaled(int index) {
+    return this.values[index];
+  }
+
+  public double getDouble(int index) {
+    return FixedPoint.toDouble(this.values[index], this.decimalPlaces);
+  }
+
+  public long[] toUnscaledArray() {
+    return this.values.clone();
+  }
+
+  public double[] toDoubleArray() {
+    double[] result = new double[this.values.length];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = FixedPoint.toDouble(this.values[i], this.decimalPlaces);
+    }
+    return result;
+  }
+
+  public List<E> toList() {
+    List<E> result = new ArrayList<>(this.values.length);
+    for (long value : this.values) {
+      result.add(createElement(value, this.decimalPlaces));
+    }
+    return result;
+  }
+
+  public V add(DecimalVector<?, ?> augend) {
+    checkSize(augend);
+    long[] a = this.values;
+    long[] b = augend.values;
+    long[] result = new long[a.length];
+    if (augend.decimalPlaces == this.decimalPlaces) {
+      for (int i = 0; i < a.length; i++) {
+        result[i] = checkOverflow(FixedPoint.add(a[i], b[i]));
+      }
+    } else {
+      for (int i = 0; i < a.length; i++) {
+        result[i] = checkOverflow(FixedPoint.add(a[i], this.decimalPlaces, b[i], augend.decimalPlaces,
+            this.decimalPlaces));
+      }
+    }
+    return create(result, this.decimalPlaces);
+  }
+
+  /**
+   * Adds the augend to all values, each sum is rounded HALF_UP to decimal places of this vector.
+   *
+   * @param augend the augend
+   * @return the vector of sums
+   */
+  public V add(DecimalRounded<?> augend) {
+    ArgChecker.notNull(augend, "Augend must be not null");
+    long[] a = this.values;
+    long[] result = new long[a.length];
+    if (!augend.isCompact()) {
+      BigDecimal b = augend.getValue();
+      for (int i = 0; i < a.length; i++) {
+        result[i] = checkOverflow(FixedPoint.valueOf(BigDecimal.valueOf(a[i], this.decimalPlaces).add(b),
+            this.decimalPlaces));
+      }
+    } else if (augend.decimalPlaces() == this.decimalPlaces) {
+      long b = augend.unscaledValue();
+      for (int i = 0; i < a.length; i++) {
+        result[i] = checkOverflow(FixedPoint.add(a[i], b));
+      }
+    } else {
+      long b = augend.unscaledValue();
+      int scaleB = augend.decimalPlaces();
+      for (int i = 0; i < a.length; i++) {
+        result[i] = add(a[i], this.decimalPlaces, b, scaleB, this.decimalPlaces);
+      }
+    }
+    return create(result, this.decimalPlaces);
+  }
+
+  public V subtract(DecimalVector<?, ?> subtrahend) {
+    checkSize(subtrahend);
+    long[] a = this.values;
+    long[] b = subtrahend.values;
+    long[] result = new long[a.length];
+    if (subtrahend.decimalPlaces == this.decimalPlaces) {
+      for (int i = 0; i < a.length; i++) {
+        result[i] = checkOverflow(FixedPoint.subtract(a[i], b[i]));
+      }
+    } else {
+      for (int i = 0; i < a.length; i++) {
+        result[i] = checkOverflow(FixedPoint.subtract(a[i], this.decimalPlaces, b[i], subtrahend.decimalPlaces,
+            this.decimalPlaces));
+      }
+    }
+    return create(result, this.decimalPlaces);
+  }
+
+  /**
+   * Multiplies all values by the given multiplicand, each product is rounded HALF_UP to decimal places of this vector.
+   *
+   * @param multiplicand the multiplicand, e.g. a {@link Rate}
+   * @return the vector of products
+   */
+  public V multiply(DecimalRounded<?> multiplicand) {
+    ArgChecker.notNull(multiplicand, "Multiplicand must be not null");
+    long[] a = this.values;
+    long[] result = new long[a.length];
+    if (!multiplicand.isCompact()) {
+      BigDecimal b = multiplicand.getValue();
+      for (int i = 0; i < a.length; i++) {
+        result[i] = checkOverflow(FixedPoint.valueOf(BigDecimal.valueOf(a[i], this.decimalPlaces).multiply(b),
+            this.decimalPlaces));
+      }
+      return create(result, this.decimalPlaces);
+    }
+    long b = multiplicand.unscaledValue();
+    int scaleB = multiplicand.decimalPlaces();
+    for (int i = 0; i < a.length; i++) {
+      result[i] = multiply(a[i], this.decimalPlaces, b, scaleB, this.decimalPlaces);
+    }
+    return create(result, this.decimalPlaces);
+  }
+
+  /**
+   * Multiplies values element by element, each product is rounded HALF_UP to decimal places of this vector.
+   *
+   * @param multiplicands the multiplicands, e.g. a {@link RateVector}
+   * @return the vector of products
+   */
+  public V multiply(DecimalVector<?, ?> multiplicands) {
+    checkSize(multiplicands);
+    long[] a = this.values;
+    long[] b = multiplicands.values;
+    long[] result = new long[a.length];
+    for (int i = 0; i < a.length; i++) {
+      result[i] = multiply(a[i], this.decimalPlaces, b[i], multiplicands.decimalPlaces, this.decimalPlaces);
+    }
+    return create(result, this.decimalPlaces);
+  }
+
+  public V negate() {
+    long[] a = this.values;
+    long[] result = new long[a.length];
+    for (int i = 0; i < a.length; i++) {
+      result[i] = -a[i];
+    }
+    return create(result, this.decimalPlaces);
+  }
+
+  public V abs() {
+    long[] a = this.values;
+    long[] result = new long[a.length];
+    for (int i = 0; i < a.length; i++) {
+      result[i] = Math.abs(a[i]);
+    }
+    return create(result, this.decimalPlaces);
+  }
+
+  /**
+   * Rounds all values HALF_UP to the given decimal places.
+   *
+   * @param decimalPlaces the decimal places of the result
+   * @return the rounded vector
+   */
+  public V round(int decimalPlaces) {
+    ArgChecker.isTrue(FixedPoint.isSupportedScale(decimalPlaces),
+        () -> "Invalid decimal places, must be from 0 to " + FixedPoint.MAX_SCALE + " inclusive");
+    long[] a = this.values;
+    long[] result = new long[a.length];
+    if (decimalPlaces < this.decimalPlaces) {
+      long divisor = FixedPoint.powerOfTen(this.decimalPlaces - decimalPlaces);
+      for (int i = 0; i < a.length; i++) {
+        result[i] = FixedPoint.divideHalfUp(a[i], divisor);
+      }
+    } else {
+      for (int i = 0; i < a.length; i++) {
+        result[i] = checkOverflow(FixedPoint.rescale(a[i], this.decimalPlaces, decimalPlaces));
+      }
+    }
+    return create(result, decimalPlaces);
+  }
+
+  public E sum() {
+    long[] a = this.values;
+    long sum = 0;
+    for (int i = 0; i < a.length; i++) {
+      long r = sum + a[i];
+      if (((sum ^ r) & (a[i] ^ r)) < 0 || r == FixedPoint.INFLATED) {
+        return createElement(sumInflated(i, sum), this.decimalPlaces);
+      }
+      sum = r;
+    }
+    return createElement(sum, this.decimalPlaces);
+  }
+
+  public E min() {
+    ArgChecker.isTrue(this.values.length > 0, "Vector must be not empty");
+    long[] a = this.values;
+    long min = a[0];
+    for (int i = 1; i < a.length; i++) {
+      min = Math.min(min, a[i]);
+    }
+    return createElement(min, this.decimalPlaces);
+  }
+
+  public E max() {
+    ArgChecker.isTrue(this.values.length > 0, "Vector must be not empty");
+    long[] a = this.values;
+    long max = a[0];
+    for (int i = 1; i < a.length; i++) {
+      max = Math.max(max, a[i]);
+    }
+    return createElement(max, this.decimalPlaces);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(this.values) + this.decimalPlaces;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    DecimalVector<?, ?> other = (DecimalVector<?, ?>) o;
+    return this.decimalPlaces == other.decimalPlaces && Arrays.equals(this.values, other.values);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder(getClass().getSimpleName()).append('[');
+    for (int i = 0; i < this.values.length; i++) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      sb.append(BigDecimal.valueOf(this.values[i], this.decimalPlaces).toPlainString());
+    }
+    return sb.append(']').toString();
+  }
+
+  protected abstract V create(long[] values, int decimalPlaces);
+
+  protected abstract E createElement(long unscaledValue, int decimalPlaces);
+
+  protected abstract E createElement(BigDecimal value, int decimalPlaces);
+
+  private static long add(long a, int scaleA, long b, int scaleB, int scale) {
+    long result = FixedPoint.add(a, scaleA, b, scaleB, scale);
+    if (result == FixedPoint.INFLATED) {
+      result = FixedPoint.valueOf(BigDecimal.valueOf(a, scaleA).add(BigDecimal.valueOf(b, scaleB)), scale);
+    }
+    return checkOverflow(result);
+  }
+
+  private static long multiply(long a, int scaleA, long b, int scaleB, int scale) {
+    long result = FixedPoint.multiply(a, scaleA, b, scaleB, scale);
+    if (result == FixedPoint.INFLATED) {
+      BigDecimal product = BigDecimal.valueOf(a, scaleA).multiply(BigDecimal.valueOf(b, scaleB));
+      result = FixedPoint.valueOf(product.setScale(scale, RoundingMode.HALF_UP), scale);
+    }
+    return checkOverflow(result);
+  }
+
+  private static long checkOverflow(long value) {
+    if (value == FixedPoint.INFLATED) {
+      throw new ArithmeticException("Value does not fit into vector");
+    }
+    return value;
+  }
+
+  private void checkSize(DecimalVector<?, ?> other) {
+    ArgChecker.notNull(other, "Vector must be not null");
+    ArgChecker.isTrue(other.values.length == this.values.length,
+        () -> "Vector size mismatch: " + this.values.length + " and " + other.values.length);
+  }
+
+  private BigDecimal sumInflated(int from, long partialSum) {
+    AmountAccumulator accumulator = new AmountAccumulator(this.decimalPlaces);
+    accumulator.addUnscaled(partialSum, this.decimalPlaces);
+    for (int i = from; i < this.values.length; i++) {
+      accumulator.addUnscaled(this.values[i], this.decimalPlaces);
+    }
+    return accumulator.getExactValue();
+  }
+}
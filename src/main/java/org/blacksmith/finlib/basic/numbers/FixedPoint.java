@@ -0,0 +1,217 @@
+package org.blacksmith.finlib.basic.numbers;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point arithmetic on unscaled long values.
+ * <p>
+ * A value is represented as an unscaled long and a scale (number of decimal places).
+ * All operations return {@link #INFLATED} when the result does not fit into a long,
+ * in that case callers must fall back to {@link BigDecimal} arithmetic.
+ */
+public final class FixedPoint {
+
+  /**
+   * Marker of the value that can not be represented as an unscaled long.
+   */
+  public static final long INFLATED = Long.MIN_VALUE;
+  /**
+   * Maximal scale supported by the fixed-point representation.
+   */
+  public static final int MAX_SCALE = 18;
+
+  private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+  static {
+    POWERS_OF_TEN[0] = 1L;
+    for (int i = 1; i <= MAX_SCALE; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+    }
+  }
+
+  private FixedPoint() {
+  }
+
+  public static boolean isSupportedScale(int scale) {
+    return scale >= 0 && scale <= MAX_SCALE;
+  }
+
+  public static long powerOfTen(int exponent) {
+    return POWERS_OF_TEN[exponent];
+  }
+
+  /**
+   * Converts a value to unscaled long with the given scale, rounding HALF_UP.
+   *
+   * @param value the value
+   * @param scale the target scale
+   * @return the unscaled value or {@link #INFLATED}
+   */
+  public static long valueOf(BigDecimal value, int scale) {
+    if (!isSupportedScale(scale)) {
+      return INFLATED;
+    }
+    BigDecimal aligned = value.scale() == scale ? value : value.setScale(scale, RoundingMode.HALF_UP);
+    int precision = aligned.precision();
+    if (precision > MAX_SCALE + 1) {
+      return INFLATED;
+    }
+    if (precision > MAX_SCALE) {
+      BigInteger unscaled = aligned.unscaledValue();
+      return unscaled.bitLength() < Long.SIZE && unscaled.longValue() != INFLATED ? unscaled.longValue() : INFLATED;
+    }
+    // BigDecimal has no allocation-free accessor of the unscaled value: setScale allocates when the scale differs,
+    // scaleByPowerOfTen when the target scale is not zero, only a compact value already at scale 0 allocates nothing
+    return scale == 0 ? aligned.longValueExact() : aligned.scaleByPowerOfTen(scale).longValueExact();
+  }
+
+  /**
+   * Converts an integral value to unscaled long with the given scale.
+   *
+   * @param value the integral value
+   * @param scale the target scale
+   * @return the unscaled value or {@link #INFLATED}
+   */
+  public static long valueOf(long value, int scale) {
+    if (!isSupportedScale(scale) || value == INFLATED) {
+      return INFLATED;
+    }
+    return multiply(value, POWERS_OF_TEN[scale]);
+  }
+
+  public static BigDecimal toBigDecimal(long unscaledValue, int scale) {
+    return BigDecimal.valueOf(unscaledValue, scale);
+  }
+
+  public static double toDouble(long unscaledValue, int scale) {
+    // both operands are exact doubles, so the division is correctly rounded
+    if (Math.abs(unscaledValue) < (1L << 52)) {
+      return (double) unscaledValue / POWERS_OF_TEN[scale];
+    }
+    return BigDecimal.valueOf(unscaledValue, scale).doubleValue();
+  }
+
+  public static long add(long a, long b) {
+    long r = a + b;
+    if (((a ^ r) & (b ^ r)) < 0 || r == INFLATED) {
+      return INFLATED;
+    }
+    return r;
+  }
+
+  public static long subtract(long a, long b) {
+    long r = a - b;
+    if (((a ^ b) & (a ^ r)) < 0 || r == INFLATED) {
+      return INFLATED;
+    }
+    return r;
+  }
+
+  public static long multiply(long a, long b) {
+    long hi = Math.multiplyHigh(a, b);
+    long lo = a * b;
+    if ((hi == 0 && lo >= 0) || (hi == -1 && lo < 0)) {
+      return lo == INFLATED ? INFLATED : lo;
+    }
+    return INFLATED;
+  }
+
+  /**
+   * Adds two unscaled values with different scales and rescales the sum to {@code scale}.
+   */
+  public static long add(long a, int scaleA, long b, int scaleB, int scale) {
+    int commonScale = Math.max(scaleA, scaleB);
+    long alignedA = rescale(a, scaleA, commonScale);
+    long alignedB = rescale(b, scaleB, commonScale);
+    if (alignedA == INFLATED || alignedB == INFLATED) {
+      return INFLATED;
+    }
+    return rescale(add(alignedA, alignedB), commonScale, scale);
+  }
+
+  /**
+   * Subtracts two unscaled values with different scales and rescales the difference to {@code scale}.
+   */
+  public static long subtract(long a, int scaleA, long b, int scaleB, int scale) {
+    int commonScale = Math.max(scaleA, scaleB);
+    long alignedA = rescale(a, scaleA, commonScale);
+    long alignedB = rescale(b, scaleB, commonScale);
+    if (alignedA == INFLATED || alignedB == INFLATED) {
+      return INFLATED;
+    }
+    return rescale(subtract(alignedA, alignedB), commonScale, scale);
+  }
+
+  /**
+   * Multiplies two unscaled values and rescales the product to {@code scale}.
+   */
+  public static long multiply(long a, int scaleA, long b, int scaleB, int scale) {
+    return rescale(multiply(a, b), scaleA + scaleB, scale);
+  }
+
+  /**
+   * Changes scale of an unscaled value, rounding HALF_UP when the scale is reduced.
+   *
+   * @param value     the unscaled value
+   * @param fromScale the current scale
+   * @param toScale   the target scale
+   * @return the rescaled value or {@link #INFLATED}
+   */
+  public static long rescale(long value, int fromScale, int toScale) {
+    if (value == INFLATED) {
+      return INFLATED;
+    }
+    int diff = toScale - fromScale;
+    if (diff == 0) {
+      return value;
+    }
+    if (diff > 0) {
+      return diff > MAX_SCALE ? (value == 0 ? 0 : INFLATED) : multiply(value, POWERS_OF_TEN[diff]);
+    }
+    if (-diff > MAX_SCALE) {
+      return INFLATED;
+    }
+    return divideHalfUp(value, POWERS_OF_TEN[-diff]);
+  }
+
+  /**
+   * Changes scale of an unscaled value, truncating (rounding DOWN) when the scale is reduced.
+   */
+  public static long rescaleDown(long value, int fromScale, int toScale) {
+    if (value == INFLATED) {
+      return INFLATED;
+    }
+    int diff = toScale - fromScale;
+    if (diff >= 0) {
+      return rescale(value, fromScale, toScale);
+    }
+    if (-diff > MAX_SCALE) {
+      return INFLATED;
+    }
+    return value / POWERS_OF_TEN[-diff];
+  }
+
+  public static long divideHalfUp(long value, long divisor) {
+    long q = value / divisor;
+    long r = value % divisor;
+    if (Math.abs(r) * 2 >= divisor) {
+      q += value < 0 ? -1 : 1;
+    }
+    return q;
+  }
+
+  public static int compare(long a, int scaleA, long b, int scaleB) {
+    if (scaleA == scaleB) {
+      return Long.compare(a, b);
+    }
+    int commonScale = Math.max(scaleA, scaleB);
+    long alignedA = rescale(a, scaleA, commonScale);
+    long alignedB = rescale(b, scaleB, commonScale);
+    if (alignedA == INFLATED || alignedB == INFLATED) {
+      return toBigDecimal(a, scaleA).compareTo(toBigDecimal(b, scaleB));
+    }
+    return Long.compare(alignedA, alignedB);
+  }
+}
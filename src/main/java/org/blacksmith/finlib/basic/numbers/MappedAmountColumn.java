@@ -0,0 +1,129 @@
+package org.blacksmith.finlib.basic.numbers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+
+import org.blacksmith.commons.arg.ArgChecker;
+
+/**
+ * Memory-mapped column of amounts with fixed decimal places.
+ *
+ * @see MappedColumn
+ */
+public class MappedAmountColumn extends MappedColumn {
+
+  private static final int MAGIC = 0x4253414d; // BSAM
+
+  private MappedAmountColumn(Path path, int size, int decimalPlaces) throws IOException {
+    super(path, MAGIC, 1, size, decimalPlaces);
+  }
+
+  private MappedAmountColumn(Path path, boolean readOnly) throws IOException {
+    super(path, MAGIC, 1, readOnly);
+  }
+
+  /**
+   * Creates a new column filled with zeros.
+   *
+   * @param path          the file
+   * @param size          the number of amounts
+   * @param decimalPlaces the decimal places of stored amounts
+   * @return the writable column
+   * @throws IOException if the file can not be created
+   */
+  public static MappedAmountColumn create(Path path, int size, int decimalPlaces) throws IOException {
+    return new MappedAmountColumn(path, size, decimalPlaces);
+  }
+
+  /**
+   * Creates a new column of the values, the values are validated before the file is created.
+   *
+   * @param path          the file
+   * @param values        the values
+   * @param decimalPlaces the decimal places of stored amounts
+   * @return the writable column
+   * @throws IOException if the file can not be created
+   */
+  public static MappedAmountColumn write(Path path, Collection<? extends DecimalRounded<?>> values, int decimalPlaces)
+      throws IOException {
+    ArgChecker.notNull(values, "Values must be not null");
+    ArgChecker.isTrue(FixedPoint.isSupportedScale(decimalPlaces),
+        () -> "Invalid decimal places, must be from 0 to " + FixedPoint.MAX_SCALE + " inclusive");
+    long[] unscaledValues = new long[values.size()];
+    int i = 0;
+    for (DecimalRounded<?> value : values) {
+      unscaledValues[i++] = checkUnscaled(toUnscaled(value, decimalPlaces));
+    }
+    return write(path, unscaledValues, decimalPlaces);
+  }
+
+  public static MappedAmountColumn write(Path path, DecimalVector<?, ?> values) throws IOException {
+    ArgChecker.notNull(values, "Values must be not null");
+    long[] unscaledValues = new long[values.size()];
+    for (int i = 0; i < unscaledValues.length; i++) {
+      unscaledValues[i] = checkUnscaled(values.getUnscaled(i));
+    }
+    return write(path, unscaledValues, values.decimalPlaces());
+  }
+
+  public static MappedAmountColumn open(Path path) throws IOException {
+    return new MappedAmountColumn(path, false);
+  }
+
+  public static MappedAmountColumn openReadOnly(Path path) throws IOException {
+    return new MappedAmountColumn(path, true);
+  }
+
+  /**
+   * Gets the amount.
+   *
+   * @param index the index
+   * @return the amount
+   * @throws ArithmeticException if the cell contains {@link FixedPoint#INFLATED} value
+   */
+  public Amount get(int index) {
+    return Amount.ofUnscaled(getValidUnscaled(index, 0), decimalPlaces());
+  }
+
+  public long getUnscaled(int index) {
+    return getUnscaled(index, 0);
+  }
+
+  public void set(int index, DecimalRounded<?> value) {
+    setUnscaled(index, toUnscaled(value));
+  }
+
+  public void setUnscaled(int index, long unscaledValue) {
+    putUnscaled(index, 0, unscaledValue);
+  }
+
+  /**
+   * Copies the column into an on-heap vector.
+   *
+   * @return the vector
+   * @throws ArithmeticException if the column contains {@link FixedPoint#INFLATED} value
+   */
+  public AmountVector toVector() {
+    long[] values = new long[size()];
+    asLongBuffer().get(values);
+    for (int i = 0; i < values.length; i++) {
+      checkCell(values[i], i);
+    }
+    return new AmountVector(values, decimalPlaces());
+  }
+
+  private static MappedAmountColumn write(Path path, long[] unscaledValues, int decimalPlaces) throws IOException {
+    MappedAmountColumn column = create(path, unscaledValues.length, decimalPlaces);
+    try {
+      for (int i = 0; i < unscaledValues.length; i++) {
+        column.setUnscaled(i, unscaledValues[i]);
+      }
+      column.force();
+    } catch (RuntimeException e) {
+      column.close();
+      throw e;
+    }
+    return column;
+  }
+}
@@ -0,0 +1,203 @@
+package org.blacksmith.finlib.basic.numbers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.blacksmith.commons.arg.ArgChecker;
+
+/**
+ * Memory-mapped column of fixed size records, each record consists of unscaled long values with a common scale.
+ * <p>
+ * File layout (little endian):
+ * <pre>
+ *  int magic, int version, int fields per record, int decimal places, long size, long reserved
+ *  size * fields * long values
+ * </pre>
+ * Reading from the column does not require deserialization, the file is mapped into memory as is.
+ * A column is limited to 2GB, which is more than 268 million long values.
+ * Reading is thread-safe, writing requires external synchronization.
+ */
+public abstract class MappedColumn implements AutoCloseable {
+
+  protected static final int HEADER_SIZE = 32;
+  private static final int VERSION = 1;
+
+  private final FileChannel channel;
+  private final MappedByteBuffer buffer;
+  private final int fields;
+  private final int size;
+  private final int decimalPlaces;
+  private final boolean readOnly;
+
+  /**
+   * Creates a new column file, the existing file is overwritten.
+   */
+  protected MappedColumn(Path path, int magic, int fields, int size, int decimalPlaces) throws IOException {
+    ArgChecker.notNull(path, "Path must be not null");
+    ArgChecker.isTrue(size >= 0, "Size must be not negative");
+    ArgChecker.isTrue(FixedPoint.isSupportedScale(decimalPlaces),
+        () -> "Invalid decimal places, must be from 0 to " + FixedPoint.MAX_SCALE + " inclusive");
+    long fileSize = fileSize(size, fields);
+    ArgChecker.isTrue(fileSize >= 0 && fileSize <= Integer.MAX_VALUE, "Column too large to be mapped");
+    this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      this.buffer = map(this.channel, MapMode.READ_WRITE, fileSize);
+    } catch (IOException | RuntimeException e) {
+      this.channel.close();
+      throw e;
+    }
+    this.buffer.putInt(0, magic);
+    this.buffer.putInt(4, VERSION);
+    this.buffer.putInt(8, fields);
+    this.buffer.putInt(12, decimalPlaces);
+    this.buffer.putLong(16, size);
+    this.fields = fields;
+    this.size = size;
+    this.decimalPlaces = decimalPlaces;
+    this.readOnly = false;
+  }
+
+  /**
+   * Opens an existing column file.
+   */
+  protected MappedColumn(Path path, int magic, int fields, boolean readOnly) throws IOException {
+    ArgChecker.notNull(path, "Path must be not null");
+    this.channel = readOnly ? FileChannel.open(path, StandardOpenOption.READ)
+        : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      long fileSize = this.channel.size();
+      if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) {
+        throw new IOException("Invalid column file size: " + fileSize);
+      }
+      this.buffer = map(this.channel, readOnly ? MapMode.READ_ONLY : MapMode.READ_WRITE, fileSize);
+      int storedDecimalPlaces = this.buffer.getInt(12);
+      if (this.buffer.getInt(0) != magic || this.buffer.getInt(4) != VERSION || this.buffer.getInt(8) != fields
+          || !FixedPoint.isSupportedScale(storedDecimalPlaces)) {
+        throw new IOException("Invalid column file header: " + path);
+      }
+      long storedSize = this.buffer.getLong(16);
+      if (storedSize < 0 || fileSize(storedSize, fields) != fileSize) {
+        throw new IOException("Column file truncated: " + path);
+      }
+      this.fields = fields;
+      this.size = (int) storedSize;
+      this.decimalPlaces = storedDecimalPlaces;
+      this.readOnly = readOnly;
+    } catch (IOException | RuntimeException e) {
+      this.channel.close();
+      throw e;
+    }
+  }
+
+  public int size() {
+    return this.size;
+  }
+
+  public int decimalPlaces() {
+    return this.decimalPlaces;
+  }
+
+  public boolean isReadOnly() {
+    return this.readOnly;
+  }
+
+  /**
+   * Writes changes to the storage device.
+   */
+  public void force() {
+    if (!this.readOnly) {
+      this.buffer.force();
+    }
+  }
+
+  /**
+   * Closes the file, the mapping itself is released when the column is garbage collected.
+   */
+  @Override
+  public void close() throws IOException {
+    force();
+    this.channel.close();
+  }
+
+  protected long getUnscaled(int index, int field) {
+    return this.buffer.getLong(offset(index, field));
+  }
+
+  /**
+   * Gets the unscaled value, rejecting a corrupt {@link FixedPoint#INFLATED} cell.
+   */
+  protected long getValidUnscaled(int index, int field) {
+    return checkCell(getUnscaled(index, field), index);
+  }
+
+  protected void putUnscaled(int index, int field, long unscaledValue) {
+    this.buffer.putLong(offset(index, field), checkUnscaled(unscaledValue));
+  }
+
+  protected long toUnscaled(DecimalRounded<?> value) {
+    return toUnscaled(value, this.decimalPlaces);
+  }
+
+  protected static long toUnscaled(DecimalRounded<?> value, int decimalPlaces) {
+    ArgChecker.notNull(value, "Value must be not null");
+    if (value.isCompact()) {
+      return FixedPoint.rescale(value.unscaledValue(), value.decimalPlaces(), decimalPlaces);
+    }
+    return FixedPoint.valueOf(value.getValue(), decimalPlaces);
+  }
+
+  protected static long checkUnscaled(long unscaledValue) {
+    if (unscaledValue == FixedPoint.INFLATED) {
+      throw new ArithmeticException("Value does not fit into column");
+    }
+    return unscaledValue;
+  }
+
+  protected static long checkCell(long unscaledValue, int index) {
+    if (unscaledValue == FixedPoint.INFLATED) {
+      throw new ArithmeticException("Invalid column value at index " + index);
+    }
+    return unscaledValue;
+  }
+
+  /**
+   * Gets a read-only view of all values, fields of a record are adjacent.
+   */
+  protected LongBuffer asLongBuffer() {
+    ByteBuffer data = this.buffer.duplicate();
+    data.position(HEADER_SIZE);
+    return data.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().asReadOnlyBuffer();
+  }
+
+  private int offset(int index, int field) {
+    if (index < 0 || index >= this.size) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + this.size);
+    }
+    return HEADER_SIZE + (index * this.fields + field) * Long.BYTES;
+  }
+
+  /**
+   * Gets size of the file with the given number of records, -1 if it overflows a long.
+   */
+  private static long fileSize(long size, int fields) {
+    try {
+      return Math.addExact(HEADER_SIZE, Math.multiplyExact(Math.multiplyExact(size, fields), Long.BYTES));
+    } catch (ArithmeticException e) {
+      return -1;
+    }
+  }
+
+  private static MappedByteBuffer map(FileChannel channel, MapMode mode, long fileSize) throws IOException {
+    MappedByteBuffer buffer = channel.map(mode, 0, fileSize);
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    return buffer;
+  }
+}
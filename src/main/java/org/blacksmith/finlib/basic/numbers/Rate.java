@@ -2,12 +2,19 @@ package org.blacksmith.finlib.basic.numbers;
 
 import java.math.BigDecimal;
 
+import org.blacksmith.commons.arg.ArgChecker;
+
 public class Rate extends DecimalRounded<Rate> {
 
   public static final int DEFAULT_PRECISION = 9;
+  /**
+   * Cached rates from -1.00 to 10.00 in steps of 0.01 with 2 to 12 decimal places.
+   */
+  private static final DecimalRoundedCache<Rate> CACHE =
+      new DecimalRoundedCache<>(2, -100, 1000, 12, (v, dp) -> new Rate(v, null, dp));
 
-  public static final Rate ZERO = new Rate(BigDecimal.ZERO, DEFAULT_PRECISION);
-  public static final Rate ONE = new Rate(BigDecimal.ONE, DEFAULT_PRECISION);
+  public static final Rate ZERO = Rate.of(0, DEFAULT_PRECISION);
+  public static final Rate ONE = Rate.of(1, DEFAULT_PRECISION);
 
   /**
    * Single parameter constructors constructs instance with default decimal places
@@ -55,48 +62,83 @@ public class Rate extends DecimalRounded<Rate> {
     super(value, DEFAULT_PRECISION);
   }
 
+  protected Rate(long unscaledValue, BigDecimal value, int decimalPlaces) {
+    super(unscaledValue, value, decimalPlaces);
+  }
+
   public static Rate of(DecimalRounded<?> value, int decimalPlaces) {
+    ArgChecker.notNull(value, "Value must be not null");
+    if (value.isCompact() && FixedPoint.isSupportedScale(decimalPlaces)) {
+      long unscaledValue = FixedPoint.rescale(value.unscaledValue(), value.decimalPlaces(), decimalPlaces);
+      if (unscaledValue != FixedPoint.INFLATED) {
+        return createCompact(unscaledValue, decimalPlaces);
+      }
+    }
     return new Rate(value, decimalPlaces);
   }
 
   public static Rate of(DecimalRounded<?> value) {
-    return new Rate(value);
+    ArgChecker.notNull(value, "Value must be not null");
+    return of(value, value.decimalPlaces());
   }
 
   public static Rate of(BigDecimal value, int decimalPlaces) {
-    return new Rate(value, decimalPlaces);
+    ArgChecker.notNull(value, "Value must be not null");
+    long unscaledValue = FixedPoint.valueOf(value, decimalPlaces);
+    return unscaledValue != FixedPoint.INFLATED ? createCompact(unscaledValue, decimalPlaces)
+        : new Rate(value, decimalPlaces);
   }
 
   public static Rate of(BigDecimal value) {
-    return new Rate(value);
+    return of(value, DEFAULT_PRECISION);
   }
 
   public static Rate of(String value, int decimalPlaces) {
-    return new Rate(value, decimalPlaces);
+    ArgChecker.notNull(value, "Value must be not null");
+    return of(new BigDecimal(value), decimalPlaces);
   }
 
   public static Rate of(String value) {
-    return new Rate(value);
+    return of(value, DEFAULT_PRECISION);
   }
 
   public static Rate of(double value, int decimalPlaces) {
-    return new Rate(value, decimalPlaces);
+    return of(BigDecimal.valueOf(value), decimalPlaces);
   }
 
   public static Rate of(double value) {
-    return new Rate(value);
+    return of(value, DEFAULT_PRECISION);
   }
 
   public static Rate of(long value, int decimalPlaces) {
-    return new Rate(value, decimalPlaces);
+    long unscaledValue = FixedPoint.valueOf(value, decimalPlaces);
+    Rate cached = unscaledValue != FixedPoint.INFLATED ? CACHE.get(unscaledValue, decimalPlaces) : null;
+    return cached != null ? cached : new Rate(value, decimalPlaces);
   }
 
   public static Rate of(long value) {
-    return new Rate(value);
+    return of(value, DEFAULT_PRECISION);
+  }
+
+  public static Rate ofUnscaled(long unscaledValue, int decimalPlaces) {
+    if (unscaledValue != FixedPoint.INFLATED && FixedPoint.isSupportedScale(decimalPlaces)) {
+      return createCompact(unscaledValue, decimalPlaces);
+    }
+    return new Rate(unscaledValue, BigDecimal.valueOf(unscaledValue, decimalPlaces), decimalPlaces);
   }
 
   @Override
   protected Rate create(BigDecimal value, int decimalPlaces) {
-    return new Rate(value, decimalPlaces);
+    return of(value, decimalPlaces);
+  }
+
+  @Override
+  protected Rate createOfUnscaled(long unscaledValue, int decimalPlaces) {
+    return createCompact(unscaledValue, decimalPlaces);
+  }
+
+  private static Rate createCompact(long unscaledValue, int decimalPlaces) {
+    Rate cached = CACHE.get(unscaledValue, decimalPlaces);
+    return cached != null ? cached : new Rate(unscaledValue, null, decimalPlaces);
   }
 }
@@ -0,0 +1,48 @@
+package org.blacksmith.finlib.basic.numbers;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+import org.blacksmith.commons.arg.ArgChecker;
+
+public class RateVector extends DecimalVector<RateVector, Rate> {
+
+  protected RateVector(long[] values, int decimalPlaces) {
+    super(values, decimalPlaces);
+  }
+
+  public static RateVector of(Collection<? extends DecimalRounded<?>> values, int decimalPlaces) {
+    return new RateVector(toUnscaled(values, decimalPlaces), decimalPlaces);
+  }
+
+  public static RateVector of(Collection<? extends DecimalRounded<?>> values) {
+    return of(values, Rate.DEFAULT_PRECISION);
+  }
+
+  public static RateVector ofUnscaled(long[] unscaledValues, int decimalPlaces) {
+    ArgChecker.notNull(unscaledValues, "Values must be not null");
+    for (long value : unscaledValues) {
+      ArgChecker.isTrue(value != FixedPoint.INFLATED, "Value does not fit into vector");
+    }
+    return new RateVector(unscaledValues.clone(), decimalPlaces);
+  }
+
+  public static RateVector zeros(int size, int decimalPlaces) {
+    return new RateVector(new long[size], decimalPlaces);
+  }
+
+  @Override
+  protected RateVector create(long[] values, int decimalPlaces) {
+    return new RateVector(values, decimalPlaces);
+  }
+
+  @Override
+  protected Rate createElement(long unscaledValue, int decimalPlaces) {
+    return Rate.ofUnscaled(unscaledValue, decimalPlaces);
+  }
+
+  @Override
+  protected Rate createElement(BigDecimal value, int decimalPlaces) {
+    return Rate.of(value, decimalPlaces);
+  }
+}
@@ -0,0 +1,187 @@
+package org.blacksmith.finlib.basic.rate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.blacksmith.commons.arg.ArgChecker;
+import org.blacksmith.finlib.basic.accounting.CurrencyAmount;
+import org.blacksmith.finlib.basic.currency.Currency;
+import org.blacksmith.finlib.basic.currency.CurrencyRegistry;
+import org.blacksmith.finlib.basic.numbers.Amount;
+import org.blacksmith.finlib.basic.numbers.AmountAccumulator;
+import org.blacksmith.finlib.basic.numbers.Rate;
+
+/**
+ * Converts amounts to a target currency using a snapshot of FX rates.
+ * <p>
+ * Bulk conversion groups amounts by currency, the rate of each group is looked up once.
+ * Every amount is converted with the same rounding, HALF_UP to minor units of the target currency,
+ * including amounts already in the target currency, totals are sums of converted amounts.
+ */
+public class CurrencyConverter {
+
+  private final FxRateMatrix rates;
+  private final Currency target;
+  private final int decimalPlaces;
+
+  public CurrencyConverter(FxRateMatrix rates, Currency target) {
+    ArgChecker.notNull(rates, "FX rate matrix must be not null");
+    ArgChecker.notNull(target, "Target currency must be not null");
+    this.rates = rates;
+    this.target = target;
+    this.decimalPlaces = CurrencyRegistry.getMinorUnits(target);
+  }
+
+  public static CurrencyConverter of(FxRateMatrix rates, Currency target) {
+    return new CurrencyConverter(rates, target);
+  }
+
+  public Currency getTarget() {
+    return this.target;
+  }
+
+  public CurrencyAmount convert(CurrencyAmount amount) {
+    ArgChecker.notNull(amount, "Amount must be not null");
+    return new CurrencyAmount(convert(amount.getAmount(), rate(amount.getCurrency())), this.target);
+  }
+
+  public Result convertAll(Stream<CurrencyAmount> amounts) {
+    ArgChecker.notNull(amounts, "Amounts must be not null");
+    return convertAll(amounts.collect(Collectors.toList()));
+  }
+
+  public Result convertAll(Collection<CurrencyAmount> amounts) {
+    return convertAll(amounts, false);
+  }
+
+  /**
+   * Converts amounts, currency groups are converted in parallel.
+   *
+   * @param amounts the amounts
+   * @return the converted amounts and totals
+   */
+  public Result convertAllParallel(Collection<CurrencyAmount> amounts) {
+    return convertAll(amounts, true);
+  }
+
+  private Result convertAll(Collection<CurrencyAmount> amounts, boolean parallel) {
+    ArgChecker.notNull(amounts, "Amounts must be not null");
+    CurrencyAmount[] items = amounts.toArray(new CurrencyAmount[0]);
+    int[] groupIndexes = groupIndexes(items);
+    int[] groupStarts = groupStarts(items, groupIndexes);
+    CurrencyAmount[] converted = new CurrencyAmount[items.length];
+    IntStream groups = IntStream.range(0, groupStarts.length - 1);
+    Amount[] groupTotals = (parallel ? groups.parallel() : groups)
+        .mapToObj(g -> convertGroup(items, groupIndexes, groupStarts[g], groupStarts[g + 1], converted))
+        .toArray(Amount[]::new);
+
+    AmountAccumulator total = new AmountAccumulator(this.decimalPlaces);
+    Map<Currency, CurrencyAmount> totals = new LinkedHashMap<>();
+    for (int g = 0; g < groupTotals.length; g++) {
+      total.add(groupTotals[g]);
+      totals.put(items[groupIndexes[groupStarts[g]]].getCurrency(), new CurrencyAmount(groupTotals[g], this.target));
+    }
+    return new Result(Collections.unmodifiableList(Arrays.asList(converted)),
+        new CurrencyAmount(total.toAmount(), this.target), Collections.unmodifiableMap(totals));
+  }
+
+  private Amount convertGroup(CurrencyAmount[] items, int[] groupIndexes, int from, int to, CurrencyAmount[] converted) {
+    Rate rate = rate(items[groupIndexes[from]].getCurrency());
+    AmountAccumulator total = new AmountAccumulator(this.decimalPlaces);
+    for (int i = from; i < to; i++) {
+      int index = groupIndexes[i];
+      Amount amount = convert(items[index].getAmount(), rate);
+      total.add(amount);
+      converted[index] = new CurrencyAmount(amount, this.target);
+    }
+    return total.toAmount();
+  }
+
+  private Amount convert(Amount amount, Rate rate) {
+    return rate == null ? Amount.of(amount, this.decimalPlaces) : amount.multiply(rate, this.decimalPlaces);
+  }
+
+  /**
+   * Gets the rate to the target currency, null for the target currency itself.
+   */
+  private Rate rate(Currency currency) {
+    return currency == this.target ? null : this.rates.getRate(currency, this.target);
+  }
+
+  /**
+   * Sorts item indexes by currency ordinal (counting sort), preserving order within a currency.
+   */
+  private static int[] groupIndexes(CurrencyAmount[] items) {
+    int[] counts = new int[Currency.count() + 1];
+    for (CurrencyAmount item : items) {
+      ArgChecker.notNull(item, "Amount must be not null");
+      counts[item.getCurrency().getOrdinal() + 1]++;
+    }
+    for (int i = 1; i < counts.length; i++) {
+      counts[i] += counts[i - 1];
+    }
+    int[] indexes = new int[items.length];
+    for (int i = 0; i < items.length; i++) {
+      indexes[counts[items[i].getCurrency().getOrdinal()]++] = i;
+    }
+    return indexes;
+  }
+
+  /**
+   * Gets start positions of currency groups in sorted indexes, the last element is the number of items.
+   */
+  private static int[] groupStarts(CurrencyAmount[] items, int[] groupIndexes) {
+    List<Integer> starts = new ArrayList<>();
+    Currency previous = null;
+    for (int i = 0; i < groupIndexes.length; i++) {
+      Currency currency = items[groupIndexes[i]].getCurrency();
+      if (currency != previous) {
+        starts.add(i);
+        previous = currency;
+      }
+    }
+    starts.add(groupIndexes.length);
+    return starts.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  /**
+   * Result of bulk conversion.
+   */
+  public static final class Result {
+    private final List<CurrencyAmount> items;
+    private final CurrencyAmount total;
+    private final Map<Currency, CurrencyAmount> totalsByCurrency;
+
+    private Result(List<CurrencyAmount> items, CurrencyAmount total, Map<Currency, CurrencyAmount> totalsByCurrency) {
+      this.items = items;
+      this.total = total;
+      this.totalsByCurrency = totalsByCurrency;
+    }
+
+    /**
+     * Gets converted amounts in order of the source amounts.
+     */
+    public List<CurrencyAmount> getItems() {
+      return this.items;
+    }
+
+    public CurrencyAmount getTotal() {
+      return this.total;
+    }
+
+    /**
+     * Gets totals of converted amounts by source currency.
+     */
+    public Map<Currency, CurrencyAmount> getTotalsByCurrency() {
+      return this.totalsByCurrency;
+    }
+  }
+}
@@ -0,0 +1,297 @@
+package org.blacksmith.finlib.basic.rate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.blacksmith.commons.arg.ArgChecker;
+import org.blacksmith.finlib.basic.currency.Currency;
+import org.blacksmith.finlib.basic.currency.CurrencyPair;
+import org.blacksmith.finlib.basic.numbers.FixedPoint;
+import org.blacksmith.finlib.basic.numbers.Rate;
+
+/**
+ * In-memory store of historical FX rates, one {@link FxRateTimeSeries} per currency pair.
+ * <p>
+ * The store can be loaded from CSV lines {@code date,pair,rate}, e.g. {@code 2021-01-04,EUR/USD,1.2296},
+ * and persisted into a file that is memory-mapped when opened, without deserialization.
+ * File layout (little endian):
+ * <pre>
+ *  int magic, int version, int decimal places, int series count, long points count, long reserved
+ *  series count * (3 bytes base, 3 bytes counter, 2 bytes reserved, int offset, int size)
+ *  points count * long epoch day, points count * long unscaled rate
+ * </pre>
+ */
+public final class FxRateHistory {
+
+  private static final int MAGIC = 0x42534652;
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 32;
+  private static final int ENTRY_SIZE = 16;
+
+  private final Map<CurrencyPair, FxRateTimeSeries> series;
+
+  private FxRateHistory(Map<CurrencyPair, FxRateTimeSeries> series) {
+    this.series = series;
+  }
+
+  public static FxRateHistory of(Collection<FxRateTimeSeries> series) {
+    ArgChecker.notNull(series, "Series must be not null");
+    Map<CurrencyPair, FxRateTimeSeries> map = new HashMap<>();
+    for (FxRateTimeSeries s : series) {
+      ArgChecker.notNull(s, "Series must be not null");
+      ArgChecker.isTrue(map.put(s.getPair(), s) == null, () -> "Duplicate series of " + s.getPair());
+    }
+    return new FxRateHistory(Collections.unmodifiableMap(map));
+  }
+
+  /**
+   * Reads rates from CSV lines {@code date,pair,rate}, empty lines and comments starting with {@code #} are skipped.
+   * The first other line is skipped as a header if it does not start with a digit, a byte order mark is ignored.
+   *
+   * @param reader        the reader, not closed
+   * @param decimalPlaces the decimal places of stored rates
+   * @return the store
+   */
+  public static FxRateHistory readCsv(Reader reader, int decimalPlaces) throws IOException {
+    ArgChecker.notNull(reader, "Reader must be not null");
+    Map<CurrencyPair, FxRateTimeSeries.Builder> builders = new LinkedHashMap<>();
+    BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    String line;
+    int lineNumber = 0;
+    boolean first = true;
+    while ((line = lines.readLine()) != null) {
+      lineNumber++;
+      if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+        line = line.substring(1);
+      }
+      if (line.isBlank() || line.startsWith("#")) {
+        continue;
+      }
+      if (first) {
+        first = false;
+        if (!Character.isDigit(line.strip().charAt(0))) {
+          continue;
+        }
+      }
+      int comma = line.indexOf(',');
+      int second = comma < 0 ? -1 : line.indexOf(',', comma + 1);
+      if (second < 0) {
+        throw new IOException("Invalid FX rate at line " + lineNumber + ": " + line);
+      }
+      try {
+        LocalDate date = LocalDate.parse(line.substring(0, comma).trim());
+        CurrencyPair pair = CurrencyPair.of(line.substring(comma + 1, second).trim());
+        long unscaled = FixedPoint.valueOf(new BigDecimal(line.substring(second + 1).trim()), decimalPlaces);
+        if (unscaled == FixedPoint.INFLATED) {
+          throw new ArithmeticException("Rate does not fit into " + decimalPlaces + " decimal places");
+        }
+        builders.computeIfAbsent(pair, p -> FxRateTimeSeries.builder(p, decimalPlaces))
+            .putUnscaled(date.toEpochDay(), unscaled);
+      } catch (RuntimeException e) {
+        throw new IOException("Invalid FX rate at line " + lineNumber + ": " + line, e);
+      }
+    }
+    Map<CurrencyPair, FxRateTimeSeries> series = new HashMap<>();
+    builders.forEach((pair, builder) -> series.put(pair, builder.build()));
+    return new FxRateHistory(Collections.unmodifiableMap(series));
+  }
+
+  /**
+   * Opens a store written by {@link #write(Path)}, the file is mapped read-only.
+   *
+   * @param path the file
+   * @return the store
+   */
+  public static FxRateHistory open(Path path) throws IOException {
+    ArgChecker.notNull(path, "Path must be not null");
+    MappedByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long fileSize = channel.size();
+      if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) {
+        throw new IOException("Invalid FX rate file size: " + fileSize);
+      }
+      buffer = channel.map(MapMode.READ_ONLY, 0, fileSize);
+    }
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    int decimalPlaces = buffer.getInt(8);
+    if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || !FixedPoint.isSupportedScale(decimalPlaces)) {
+      throw new IOException("Invalid FX rate file header: " + path);
+    }
+    int count = buffer.getInt(12);
+    long points = buffer.getLong(16);
+    long dataOffset = HEADER_SIZE + (long) count * ENTRY_SIZE;
+    if (count < 0 || points < 0 || fileSize(dataOffset, points) != buffer.capacity()) {
+      throw new IOException("FX rate file truncated: " + path);
+    }
+    LongBuffer dates = slice(buffer, (int) dataOffset, (int) points);
+    LongBuffer rates = slice(buffer, (int) (dataOffset + points * Long.BYTES), (int) points);
+    Map<CurrencyPair, FxRateTimeSeries> series = new HashMap<>();
+    for (int i = 0; i < count; i++) {
+      int entry = HEADER_SIZE + i * ENTRY_SIZE;
+      byte[] codes = new byte[6];
+      for (int j = 0; j < codes.length; j++) {
+        codes[j] = buffer.get(entry + j);
+      }
+      CurrencyPair pair = CurrencyPair.of(Currency.of(codes, 0), Currency.of(codes, 3));
+      int offset = buffer.getInt(entry + 8);
+      int size = buffer.getInt(entry + 12);
+      if (offset < 0 || size < 0 || (long) offset + size > points || !isIncreasing(dates, offset, size)
+          || series.putIfAbsent(pair, new FxRateTimeSeries(pair, decimalPlaces, range(dates, offset, size),
+          range(rates, offset, size))) != null) {
+        throw new IOException("Invalid FX rate series of " + pair + ": " + path);
+      }
+    }
+    return new FxRateHistory(Collections.unmodifiableMap(series));
+  }
+
+  /**
+   * Writes the store into a file, all series must have the same decimal places.
+   *
+   * @param path the file, an existing file is overwritten
+   */
+  public void write(Path path) throws IOException {
+    ArgChecker.notNull(path, "Path must be not null");
+    int decimalPlaces = this.series.values().stream().mapToInt(FxRateTimeSeries::decimalPlaces).findFirst()
+        .orElse(Rate.DEFAULT_PRECISION);
+    long points = 0;
+    for (FxRateTimeSeries s : this.series.values()) {
+      ArgChecker.isTrue(s.decimalPlaces() == decimalPlaces, "All series must have the same decimal places");
+      ArgChecker.isTrue(s.getPair().getBase().getCurrencyCode().length() == 3
+          && s.getPair().getCounter().getCurrencyCode().length() == 3, "Currency codes must have 3 characters");
+      points += s.size();
+    }
+    long dataOffset = HEADER_SIZE + (long) this.series.size() * ENTRY_SIZE;
+    long fileSize = fileSize(dataOffset, points);
+    ArgChecker.isTrue(fileSize >= 0 && fileSize <= Integer.MAX_VALUE, "FX rate history too large to be mapped");
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, fileSize);
+      buffer.order(ByteOrder.LITTLE_ENDIAN);
+      buffer.putInt(0, MAGIC);
+      buffer.putInt(4, VERSION);
+      buffer.putInt(8, decimalPlaces);
+      buffer.putInt(12, this.series.size());
+      buffer.putLong(16, points);
+      LongBuffer dates = slice(buffer, (int) dataOffset, (int) points);
+      LongBuffer rates = slice(buffer, (int) (dataOffset + points * Long.BYTES), (int) points);
+      int entry = HEADER_SIZE;
+      for (FxRateTimeSeries s : this.series.values()) {
+        buffer.position(entry);
+        buffer.put(s.getPair().getBase().getCurrencyCode().getBytes(StandardCharsets.US_ASCII));
+        buffer.put(s.getPair().getCounter().getCurrencyCode().getBytes(StandardCharsets.US_ASCII));
+        buffer.putInt(entry + 8, dates.position());
+        buffer.putInt(entry + 12, s.size());
+        dates.put(s.dates());
+        rates.put(s.rates());
+        entry += ENTRY_SIZE;
+      }
+      buffer.force();
+    }
+  }
+
+  public Collection<FxRateTimeSeries> getSeries() {
+    return this.series.values();
+  }
+
+  public Optional<FxRateTimeSeries> findSeries(CurrencyPair pair) {
+    return Optional.ofNullable(this.series.get(pair));
+  }
+
+  public Optional<Rate> findRateAsOf(CurrencyPair pair, LocalDate date) {
+    FxRateTimeSeries s = this.series.get(pair);
+    return s != null ? s.findRateAsOf(date) : Optional.empty();
+  }
+
+  /**
+   * Gets the last rate of the pair on or before the date.
+   *
+   * @param pair the currency pair
+   * @param date the date
+   * @return the FX rate
+   */
+  public FxRate getAsOf(CurrencyPair pair, LocalDate date) {
+    ArgChecker.notNull(pair, "Currency pair must be not null");
+    FxRateTimeSeries s = this.series.get(pair);
+    if (s == null) {
+      throw new IllegalArgumentException("No FX rates for " + pair.getBase().getCurrencyCode() + "/"
+          + pair.getCounter().getCurrencyCode());
+    }
+    return s.getAsOf(date);
+  }
+
+  /**
+   * Gets matrix of rates as of the date, containing the last rate on or before the date of each pair.
+   *
+   * @param date the date
+   * @return the FX rate matrix
+   */
+  public FxRateMatrix getMatrixAsOf(LocalDate date) {
+    ArgChecker.notNull(date, "Date must be not null");
+    long epochDay = date.toEpochDay();
+    List<FxRate> rates = new ArrayList<>();
+    for (FxRateTimeSeries s : this.series.values()) {
+      int index = s.indexAsOf(epochDay);
+      if (index >= 0) {
+        rates.add(FxRate.of(s.getPair().getBase(), s.getPair().getCounter(), s.getRate(index)));
+      }
+    }
+    return FxRateMatrix.of(rates);
+  }
+
+  /**
+   * Gets size of the file with the given data offset and points count, -1 if it overflows a long.
+   */
+  private static long fileSize(long dataOffset, long points) {
+    try {
+      return Math.addExact(dataOffset, Math.multiplyExact(points, 2L * Long.BYTES));
+    } catch (ArithmeticException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * Checks that epoch days of the series range are strictly increasing, as required by the binary search.
+   */
+  private static boolean isIncreasing(LongBuffer dates, int offset, int size) {
+    for (int i = offset + 1; i < offset + size; i++) {
+      if (dates.get(i) <= dates.get(i - 1)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static LongBuffer slice(ByteBuffer buffer, int offset, int size) {
+    ByteBuffer data = buffer.duplicate();
+    data.position(offset);
+    data.limit(offset + size * Long.BYTES);
+    return data.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+  }
+
+  private static LongBuffer range(LongBuffer buffer, int offset, int size) {
+    LongBuffer range = buffer.duplicate();
+    range.position(offset);
+    range.limit(offset + size);
+    return range.slice().asReadOnlyBuffer();
+  }
+}
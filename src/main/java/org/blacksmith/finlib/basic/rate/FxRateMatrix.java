@@ -0,0 +1,173 @@
+package org.blacksmith.finlib.basic.rate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.blacksmith.commons.arg.ArgChecker;
+import org.blacksmith.finlib.basic.accounting.CurrencyAmount;
+import org.blacksmith.finlib.basic.currency.Currency;
+import org.blacksmith.finlib.basic.currency.CurrencyRegistry;
+import org.blacksmith.finlib.basic.numbers.Amount;
+import org.blacksmith.finlib.basic.numbers.Rate;
+
+/**
+ * Immutable set of FX rates (a fixing) stored in a dense matrix indexed by currency ordinals.
+ * <p>
+ * A rate {@code ccy1/ccy2} is the price of one unit of ccy1 in ccy2. Rates not given directly are derived:
+ * the inverse of the opposite rate or, when a pivot currency is set, the cross rate through the pivot.
+ * Derived rates are computed once and cached, lookup does not lock.
+ * New fixings are published by replacing the whole matrix, see {@link FxRateMatrixHolder}.
+ */
+public final class FxRateMatrix {
+
+  private final int size;
+  private final Rate[] rates;
+  private final AtomicReferenceArray<Rate> derivedRates;
+  private final Currency pivot;
+  private final List<FxRate> fxRates;
+
+  private FxRateMatrix(Collection<FxRate> fxRates, Currency pivot) {
+    this.size = Currency.count();
+    this.rates = new Rate[this.size * this.size];
+    this.derivedRates = new AtomicReferenceArray<>(this.size * this.size);
+    this.pivot = pivot;
+    for (FxRate fxRate : fxRates) {
+      ArgChecker.notNull(fxRate, "FX rate must be not null");
+      ArgChecker.isTrue(fxRate.getRate().signum() > 0, () -> "FX rate must be positive: " + fxRate);
+      this.rates[index(fxRate.getCcy1().getOrdinal(), fxRate.getCcy2().getOrdinal())] = fxRate.getRate();
+    }
+    this.fxRates = Collections.unmodifiableList(new ArrayList<>(fxRates));
+  }
+
+  public static FxRateMatrix of(Collection<FxRate> fxRates) {
+    ArgChecker.notNull(fxRates, "FX rates must be not null");
+    return new FxRateMatrix(fxRates, null);
+  }
+
+  /**
+   * Creates matrix deriving missing cross rates through the pivot currency.
+   *
+   * @param fxRates the FX rates
+   * @param pivot   the pivot currency, e.g. USD
+   * @return the matrix
+   */
+  public static FxRateMatrix of(Collection<FxRate> fxRates, Currency pivot) {
+    ArgChecker.notNull(fxRates, "FX rates must be not null");
+    ArgChecker.notNull(pivot, "Pivot currency must be not null");
+    return new FxRateMatrix(fxRates, pivot);
+  }
+
+  public Optional<Currency> getPivot() {
+    return Optional.ofNullable(this.pivot);
+  }
+
+  /**
+   * Gets FX rates the matrix was created from.
+   */
+  public List<FxRate> getFxRates() {
+    return this.fxRates;
+  }
+
+  public boolean contains(Currency ccy1, Currency ccy2) {
+    return findRate(ccy1, ccy2).isPresent();
+  }
+
+  public Optional<Rate> findRate(Currency ccy1, Currency ccy2) {
+    ArgChecker.notNull(ccy1, "Currency 1 must be not null");
+    ArgChecker.notNull(ccy2, "Currency 2 must be not null");
+    return Optional.ofNullable(rate(ccy1.getOrdinal(), ccy2.getOrdinal()));
+  }
+
+  public Rate getRate(Currency ccy1, Currency ccy2) {
+    ArgChecker.notNull(ccy1, "Currency 1 must be not null");
+    ArgChecker.notNull(ccy2, "Currency 2 must be not null");
+    Rate rate = rate(ccy1.getOrdinal(), ccy2.getOrdinal());
+    if (rate == null) {
+      throw new IllegalArgumentException("No FX rate for " + ccy1.getCurrencyCode() + "/" + ccy2.getCurrencyCode());
+    }
+    return rate;
+  }
+
+  public FxRate getFxRate(Currency ccy1, Currency ccy2) {
+    return FxRate.of(ccy1, ccy2, getRate(ccy1, ccy2));
+  }
+
+  /**
+   * Converts the amount to the target currency, the result is rounded to minor units of the target currency.
+   *
+   * @param amount the amount
+   * @param target the target currency
+   * @return the converted amount
+   */
+  public CurrencyAmount convert(CurrencyAmount amount, Currency target) {
+    ArgChecker.notNull(amount, "Amount must be not null");
+    if (amount.getCurrency() == target) {
+      return amount;
+    }
+    Rate rate = getRate(amount.getCurrency(), target);
+    Amount converted = amount.getAmount().multiply(rate, CurrencyRegistry.getMinorUnits(target));
+    return CurrencyAmount.of(converted, target);
+  }
+
+  private Rate rate(int ordinal1, int ordinal2) {
+    if (ordinal1 == ordinal2) {
+      return Rate.ONE;
+    }
+    if (ordinal1 >= this.size || ordinal2 >= this.size) {
+      return null;
+    }
+    int index = index(ordinal1, ordinal2);
+    Rate rate = this.rates[index];
+    if (rate != null) {
+      return rate;
+    }
+    rate = this.derivedRates.get(index);
+    if (rate == null) {
+      rate = derive(ordinal1, ordinal2);
+      if (rate != null) {
+        this.derivedRates.compareAndSet(index, null, rate);
+      }
+    }
+    return rate;
+  }
+
+  private Rate derive(int ordinal1, int ordinal2) {
+    Rate rate = directOrInverse(ordinal1, ordinal2);
+    if (rate == null && this.pivot != null) {
+      int pivotOrdinal = this.pivot.getOrdinal();
+      if (pivotOrdinal < this.size && pivotOrdinal != ordinal1 && pivotOrdinal != ordinal2) {
+        Rate rate1 = directOrInverse(ordinal1, pivotOrdinal);
+        Rate rate2 = directOrInverse(pivotOrdinal, ordinal2);
+        if (rate1 != null && rate2 != null) {
+          rate = rate1.multiply(rate2);
+        }
+      }
+    }
+    return rate;
+  }
+
+  private Rate directOrInverse(int ordinal1, int ordinal2) {
+    Rate rate = this.rates[index(ordinal1, ordinal2)];
+    if (rate != null) {
+      return rate;
+    }
+    Rate opposite = this.rates[index(ordinal2, ordinal1)];
+    return opposite != null ? opposite.inverse() : null;
+  }
+
+  private int index(int ordinal1, int ordinal2) {
+    return ordinal1 * this.size + ordinal2;
+  }
+
+  @Override
+  public String toString() {
+    return "FxRateMatrix{" +
+        "fxRates=" + fxRates +
+        ", pivot=" + pivot +
+        '}';
+  }
+}
@@ -0,0 +1,40 @@
+package org.blacksmith.finlib.basic.rate;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.blacksmith.commons.arg.ArgChecker;
+
+/**
+ * Holder of the current FX rate matrix.
+ * <p>
+ * A new fixing is published by swapping the reference, readers take a snapshot with {@link #current()}
+ * and use it without locking for the whole calculation, so all conversions see the same rates.
+ */
+public class FxRateMatrixHolder {
+
+  private final AtomicReference<FxRateMatrix> matrix;
+
+  public FxRateMatrixHolder(FxRateMatrix matrix) {
+    ArgChecker.notNull(matrix, "FX rate matrix must be not null");
+    this.matrix = new AtomicReference<>(matrix);
+  }
+
+  public static FxRateMatrixHolder of(FxRateMatrix matrix) {
+    return new FxRateMatrixHolder(matrix);
+  }
+
+  public FxRateMatrix current() {
+    return this.matrix.get();
+  }
+
+  /**
+   * Publishes a new matrix.
+   *
+   * @param matrix the new matrix
+   * @return the replaced matrix
+   */
+  public FxRateMatrix publish(FxRateMatrix matrix) {
+    ArgChecker.notNull(matrix, "FX rate matrix must be not null");
+    return this.matrix.getAndSet(matrix);
+  }
+}
@@ -0,0 +1,211 @@
+package org.blacksmith.finlib.basic.rate;
+
+import java.nio.LongBuffer;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.blacksmith.commons.arg.ArgChecker;
+import org.blacksmith.finlib.basic.currency.CurrencyPair;
+import org.blacksmith.finlib.basic.numbers.FixedPoint;
+import org.blacksmith.finlib.basic.numbers.Rate;
+
+/**
+ * Immutable time series of FX rates of a currency pair.
+ * <p>
+ * Dates are held as sorted epoch days and rates as unscaled longs with common decimal places,
+ * both in primitive buffers (heap arrays or a memory-mapped file). As-of lookup is a binary search.
+ */
+public final class FxRateTimeSeries {
+
+  private final CurrencyPair pair;
+  private final int decimalPlaces;
+  private final LongBuffer dates;
+  private final LongBuffer rates;
+
+  FxRateTimeSeries(CurrencyPair pair, int decimalPlaces, LongBuffer dates, LongBuffer rates) {
+    this.pair = pair;
+    this.decimalPlaces = decimalPlaces;
+    this.dates = dates;
+    this.rates = rates;
+  }
+
+  /**
+   * Creates series of the given epoch days and unscaled rates, epoch days must be strictly increasing.
+   */
+  public static FxRateTimeSeries ofUnscaled(CurrencyPair pair, int decimalPlaces, long[] epochDays, long[] unscaledRates) {
+    ArgChecker.notNull(pair, "Currency pair must be not null");
+    ArgChecker.isTrue(FixedPoint.isSupportedScale(decimalPlaces),
+        () -> "Invalid decimal places, must be from 0 to " + FixedPoint.MAX_SCALE + " inclusive");
+    ArgChecker.isTrue(epochDays.length == unscaledRates.length, "Dates and rates must have the same length");
+    for (int i = 1; i < epochDays.length; i++) {
+      ArgChecker.isTrue(epochDays[i - 1] < epochDays[i], "Dates must be strictly increasing");
+    }
+    return new FxRateTimeSeries(pair, decimalPlaces, LongBuffer.wrap(epochDays.clone()).asReadOnlyBuffer(),
+        LongBuffer.wrap(unscaledRates.clone()).asReadOnlyBuffer());
+  }
+
+  public static Builder builder(CurrencyPair pair, int decimalPlaces) {
+    return new Builder(pair, decimalPlaces);
+  }
+
+  public static Builder builder(CurrencyPair pair) {
+    return new Builder(pair, Rate.DEFAULT_PRECISION);
+  }
+
+  public CurrencyPair getPair() {
+    return this.pair;
+  }
+
+  public int decimalPlaces() {
+    return this.decimalPlaces;
+  }
+
+  public int size() {
+    return this.dates.limit();
+  }
+
+  public LocalDate getDate(int index) {
+    return LocalDate.ofEpochDay(this.dates.get(index));
+  }
+
+  public long getEpochDay(int index) {
+    return this.dates.get(index);
+  }
+
+  public Rate getRate(int index) {
+    return Rate.ofUnscaled(this.rates.get(index), this.decimalPlaces);
+  }
+
+  public long getUnscaledRate(int index) {
+    return this.rates.get(index);
+  }
+
+  /**
+   * Gets index of the last rate on or before the date.
+   *
+   * @param epochDay the date as epoch day
+   * @return the index or -1 if all rates are after the date
+   */
+  public int indexAsOf(long epochDay) {
+    int low = 0;
+    int high = this.dates.limit() - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      long midDate = this.dates.get(mid);
+      if (midDate < epochDay) {
+        low = mid + 1;
+      } else if (midDate > epochDay) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return high;
+  }
+
+  public Optional<Rate> findRateAsOf(LocalDate date) {
+    ArgChecker.notNull(date, "Date must be not null");
+    int index = indexAsOf(date.toEpochDay());
+    return index >= 0 ? Optional.of(getRate(index)) : Optional.empty();
+  }
+
+  /**
+   * Gets the last rate on or before the date.
+   *
+   * @param date the date
+   * @return the FX rate
+   */
+  public FxRate getAsOf(LocalDate date) {
+    ArgChecker.notNull(date, "Date must be not null");
+    int index = indexAsOf(date.toEpochDay());
+    if (index < 0) {
+      throw new IllegalArgumentException("No FX rate for " + pair.getBase().getCurrencyCode() + "/"
+          + pair.getCounter().getCurrencyCode() + " as of " + date);
+    }
+    return FxRate.of(this.pair.getBase(), this.pair.getCounter(), getRate(index));
+  }
+
+  LongBuffer dates() {
+    return this.dates.duplicate();
+  }
+
+  LongBuffer rates() {
+    return this.rates.duplicate();
+  }
+
+  @Override
+  public String toString() {
+    return "FxRateTimeSeries{" +
+        "pair=" + pair +
+        ", size=" + size() +
+        '}';
+  }
+
+  /**
+   * Builder of the series, rates may be added in any order, the last rate of a date wins.
+   */
+  public static final class Builder {
+    private final CurrencyPair pair;
+    private final int decimalPlaces;
+    private long[] epochDays = new long[16];
+    private long[] unscaledRates = new long[16];
+    private int size;
+    private boolean sorted = true;
+
+    private Builder(CurrencyPair pair, int decimalPlaces) {
+      ArgChecker.notNull(pair, "Currency pair must be not null");
+      ArgChecker.isTrue(FixedPoint.isSupportedScale(decimalPlaces),
+          () -> "Invalid decimal places, must be from 0 to " + FixedPoint.MAX_SCALE + " inclusive");
+      this.pair = pair;
+      this.decimalPlaces = decimalPlaces;
+    }
+
+    public Builder put(LocalDate date, Rate rate) {
+      ArgChecker.notNull(date, "Date must be not null");
+      ArgChecker.notNull(rate, "Rate must be not null");
+      long unscaled = rate.isCompact()
+          ? FixedPoint.rescale(rate.unscaledValue(), rate.decimalPlaces(), this.decimalPlaces)
+          : FixedPoint.valueOf(rate.getValue(), this.decimalPlaces);
+      if (unscaled == FixedPoint.INFLATED) {
+        throw new ArithmeticException("Rate does not fit into series: " + rate);
+      }
+      return putUnscaled(date.toEpochDay(), unscaled);
+    }
+
+    public Builder putUnscaled(long epochDay, long unscaledRate) {
+      if (this.size == this.epochDays.length) {
+        this.epochDays = Arrays.copyOf(this.epochDays, this.size * 2);
+        this.unscaledRates = Arrays.copyOf(this.unscaledRates, this.size * 2);
+      }
+      this.sorted &= this.size == 0 || this.epochDays[this.size - 1] < epochDay;
+      this.epochDays[this.size] = epochDay;
+      this.unscaledRates[this.size] = unscaledRate;
+      this.size++;
+      return this;
+    }
+
+    public FxRateTimeSeries build() {
+      if (this.sorted) {
+        return new FxRateTimeSeries(this.pair, this.decimalPlaces,
+            LongBuffer.wrap(Arrays.copyOf(this.epochDays, this.size)).asReadOnlyBuffer(),
+            LongBuffer.wrap(Arrays.copyOf(this.unscaledRates, this.size)).asReadOnlyBuffer());
+      }
+      TreeMap<Long, Long> points = new TreeMap<>();
+      for (int i = 0; i < this.size; i++) {
+        points.put(this.epochDays[i], this.unscaledRates[i]);
+      }
+      long[] dates = new long[points.size()];
+      long[] rates = new long[points.size()];
+      int i = 0;
+      for (Map.Entry<Long, Long> point : points.entrySet()) {
+        dates[i] = point.getKey();
+        rates[i++] = point.getValue();
+      }
+      return new FxRateTimeSeries(this.pair, this.decimalPlaces, LongBuffer.wrap(dates).asReadOnlyBuffer(),
+          LongBuffer.wrap(rates).asReadOnlyBuffer());
+    }
+  }
+}
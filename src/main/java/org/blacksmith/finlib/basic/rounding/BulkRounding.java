@@ -0,0 +1,154 @@
+package org.blacksmith.finlib.basic.rounding;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Bulk rounding of doubles.
+ * <p>
+ * Main loops are free of calls and data dependent branches, so they can be vectorized by the JIT compiler.
+ * Values the loop can not round exactly are marked and rounded one by one in a second pass.
+ */
+final class BulkRounding {
+
+  private static final int CHUNK_SIZE = 1024;
+  // the largest power of ten exactly representable as double
+  private static final int MAX_EXACT_POWER = 22;
+  private static final double[] POWERS_OF_TEN = new double[MAX_EXACT_POWER + 1];
+  // scaled values from this bound have no fraction digits in a double
+  private static final double MAX_SCALED_VALUE = 0x1p52;
+  private static final double MAX_ALIGNED_VALUE = 1e15;
+  // relative error of the scaled value, sum of representation and multiplication errors
+  private static final double SCALED_VALUE_ERROR = 0x1p-50;
+
+  static {
+    POWERS_OF_TEN[0] = 1.0d;
+    for (int i = 1; i <= MAX_EXACT_POWER; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10.0d;
+    }
+  }
+
+  private BulkRounding() {
+  }
+
+  static double powerOfTen(int exponent) {
+    return POWERS_OF_TEN[exponent];
+  }
+
+  static boolean isExactPower(int exponent) {
+    return exponent >= 0 && exponent <= MAX_EXACT_POWER;
+  }
+
+  /**
+   * Rounds HALF_UP the shortest decimal representation of each value.
+   */
+  static void roundHalfUp(double[] values, double[] result, int decimalPlaces, Rounding fallback) {
+    checkLength(values.length, result.length);
+    if (!isExactPower(decimalPlaces)) {
+      roundEach(values, result, fallback);
+      return;
+    }
+    double powerOfTen = POWERS_OF_TEN[decimalPlaces];
+    // second pass needs the original values
+    double[] source = values == result ? values.clone() : values;
+    boolean exact = true;
+    for (int i = 0; i < source.length; i++) {
+      double value = source[i];
+      double scaled = Math.abs(value) * powerOfTen;
+      double floor = Math.floor(scaled);
+      double rounded = scaled - floor > 0.5d ? floor + 1.0d : floor;
+      // adding positive zero turns negative zero into positive one
+      result[i] = Math.copySign(rounded / powerOfTen, value) + 0.0d;
+      exact &= isHalfUpExact(scaled);
+    }
+    if (!exact) {
+      for (int i = 0; i < source.length; i++) {
+        if (!isHalfUpExact(Math.abs(source[i]) * powerOfTen)) {
+          result[i] = fallback.round(source[i]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Rounds DOWN (truncates) the shortest decimal representation of each value.
+   */
+  static void roundDown(double[] values, double[] result, int decimalPlaces, Rounding fallback) {
+    checkLength(values.length, result.length);
+    if (!isExactPower(decimalPlaces)) {
+      roundEach(values, result, fallback);
+      return;
+    }
+    double powerOfTen = POWERS_OF_TEN[decimalPlaces];
+    // second pass needs the original values
+    double[] source = values == result ? values.clone() : values;
+    boolean exact = true;
+    for (int i = 0; i < source.length; i++) {
+      double value = source[i];
+      double scaled = Math.abs(value) * powerOfTen;
+      double nearest = Math.rint(scaled);
+      double truncated = isAligned(value, nearest, powerOfTen) ? nearest : Math.floor(scaled);
+      result[i] = Math.copySign(truncated / powerOfTen, value) + 0.0d;
+      exact &= isDownExact(value, scaled, nearest, powerOfTen);
+    }
+    if (!exact) {
+      for (int i = 0; i < source.length; i++) {
+        double scaled = Math.abs(source[i]) * powerOfTen;
+        if (!isDownExact(source[i], scaled, Math.rint(scaled), powerOfTen)) {
+          result[i] = fallback.round(source[i]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Checks if the scaled value is far enough from the middle between two results to be rounded HALF_UP.
+   */
+  static boolean isHalfUpExact(double scaled) {
+    return scaled < MAX_SCALED_VALUE && Math.abs(scaled - Math.floor(scaled) - 0.5d) > scaled * SCALED_VALUE_ERROR;
+  }
+
+  /**
+   * Checks if the value is exactly {@code nearest / powerOfTen}, i.e. it has no more decimal places.
+   */
+  private static boolean isAligned(double value, double nearest, double powerOfTen) {
+    // decimals up to 15 digits are exactly identified by the double nearest to them
+    return nearest < MAX_ALIGNED_VALUE && nearest / powerOfTen == Math.abs(value);
+  }
+
+  private static boolean isDownExact(double value, double scaled, double nearest, double powerOfTen) {
+    return isAligned(value, nearest, powerOfTen)
+        || (scaled < MAX_SCALED_VALUE && Math.abs(scaled - nearest) > scaled * SCALED_VALUE_ERROR);
+  }
+
+  static void roundEach(double[] values, double[] result, Rounding rounding) {
+    checkLength(values.length, result.length);
+    for (int i = 0; i < values.length; i++) {
+      result[i] = rounding.round(values[i]);
+    }
+  }
+
+  /**
+   * Rounds remaining values of the buffer in chunks, using the bulk array rounding.
+   */
+  static void round(DoubleBuffer values, DoubleBuffer result, Rounding rounding) {
+    if (values.remaining() > result.remaining()) {
+      throw new IllegalArgumentException("Result buffer too small: " + result.remaining()
+          + ", required " + values.remaining());
+    }
+    double[] chunk = new double[Math.min(values.remaining(), CHUNK_SIZE)];
+    while (values.hasRemaining()) {
+      if (values.remaining() < chunk.length) {
+        chunk = new double[values.remaining()];
+      }
+      values.get(chunk);
+      rounding.round(chunk, chunk);
+      result.put(chunk);
+    }
+  }
+
+  static void checkLength(int length, int resultLength) {
+    if (length != resultLength) {
+      throw new IllegalArgumentException("Array length mismatch: " + length + " and " + resultLength);
+    }
+  }
+}
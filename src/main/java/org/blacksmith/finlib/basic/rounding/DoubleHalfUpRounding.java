@@ -0,0 +1,102 @@
+package org.blacksmith.finlib.basic.rounding;
+
+import java.math.BigDecimal;
+
+/**
+ * Rounding HALF_UP specialized for doubles.
+ * <p>
+ * Gives the same results as {@link HalfUpRounding#round(double)}, i.e. rounds the shortest decimal
+ * representation of the double, but uses scaled double arithmetic instead of conversion to {@link BigDecimal}.
+ * Values close to the middle between two results, where the binary representation error could change
+ * the result, and values out of the exactly representable range are rounded using {@link BigDecimal}.
+ */
+public class DoubleHalfUpRounding implements Rounding {
+
+  private static final int MIN_DECIMAL_PLACES = -15;
+  private static final int MAX_DECIMAL_PLACES = 15;
+  private static final int CACHE_SIZE = MAX_DECIMAL_PLACES - MIN_DECIMAL_PLACES + 1;
+  private static final DoubleHalfUpRounding[] CACHE = new DoubleHalfUpRounding[CACHE_SIZE];
+
+  private final int decimalPlaces;
+  private final double powerOfTen;
+  private final HalfUpRounding rounding;
+
+  public DoubleHalfUpRounding(int decimalPlaces) {
+    this.rounding = new HalfUpRounding(decimalPlaces, 0);
+    this.decimalPlaces = decimalPlaces;
+    this.powerOfTen = BulkRounding.isExactPower(Math.abs(decimalPlaces))
+        ? BulkRounding.powerOfTen(Math.abs(decimalPlaces)) : 0.0d;
+  }
+
+  public static DoubleHalfUpRounding ofDecimalPlaces(int decimalPlaces) {
+    if (decimalPlaces >= MIN_DECIMAL_PLACES && decimalPlaces <= MAX_DECIMAL_PLACES) {
+      return CACHE[decimalPlaces - MIN_DECIMAL_PLACES];
+    }
+    return new DoubleHalfUpRounding(decimalPlaces);
+  }
+
+  @Override
+  public double round(double value) {
+    if (powerOfTen == 0.0d) {
+      return rounding.round(value);
+    }
+    double abs = Math.abs(value);
+    double scaled = decimalPlaces >= 0 ? abs * powerOfTen : abs / powerOfTen;
+    if (!BulkRounding.isHalfUpExact(scaled)) {
+      return rounding.round(value);
+    }
+    double floor = Math.floor(scaled);
+    double rounded = scaled - floor > 0.5d ? floor + 1.0d : floor;
+    if (rounded == 0.0d) {
+      return 0.0d;
+    }
+    // both operands are exact, so the result is the double nearest to the decimal result
+    rounded = decimalPlaces >= 0 ? rounded / powerOfTen : rounded * powerOfTen;
+    return value < 0 ? -rounded : rounded;
+  }
+
+  @Override
+  public void round(double[] values, double[] result) {
+    BulkRounding.roundHalfUp(values, result, decimalPlaces, rounding);
+  }
+
+  @Override
+  public BigDecimal round(BigDecimal value) {
+    return rounding.round(value);
+  }
+
+  public int getDecimalPlaces() {
+    return decimalPlaces;
+  }
+
+  @Override
+  public int hashCode() {
+    return (this.decimalPlaces << 16);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    DoubleHalfUpRounding other = (DoubleHalfUpRounding) obj;
+    return decimalPlaces == other.decimalPlaces;
+  }
+
+  @Override
+  public String toString() {
+    return "Round double to " + decimalPlaces + "dp";
+  }
+
+  static {
+    for (int i = 0; i < CACHE_SIZE; i++) {
+      CACHE[i] = new DoubleHalfUpRounding(i + MIN_DECIMAL_PLACES);
+    }
+  }
+}
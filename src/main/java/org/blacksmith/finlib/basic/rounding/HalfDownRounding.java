@@ -2,6 +2,9 @@ package org.blacksmith.finlib.basic.rounding;
 
 import java.math.BigDecimal;
 
+/**
+ * Truncating rounding ({@link RoundingMode#DOWN}), for rounding half down see {@link RoundingMode#HALF_DOWN}.
+ */
 public class HalfDownRounding implements Rounding {
 
   private static final int MIN_DECIMAL_PLACES = -15;
@@ -27,9 +30,26 @@ public class HalfDownRounding implements Rounding {
 
   @Override
   public BigDecimal round(BigDecimal value) {
+    if (value.scale() == decimalPlaces) {
+      return value;
+    }
     return value.setScale(decimalPlaces, java.math.RoundingMode.DOWN);
   }
 
+  @Override
+  public void round(double[] values, double[] result) {
+    BulkRounding.roundDown(values, result, decimalPlaces, this);
+  }
+
+  @Override
+  public void round(BigDecimal[] values, BigDecimal[] result) {
+    BulkRounding.checkLength(values.length, result.length);
+    for (int i = 0; i < values.length; i++) {
+      BigDecimal value = values[i];
+      result[i] = value.scale() == decimalPlaces ? value : value.setScale(decimalPlaces, java.math.RoundingMode.DOWN);
+    }
+  }
+
   public int getDecimalPlaces() {
     return decimalPlaces;
   }
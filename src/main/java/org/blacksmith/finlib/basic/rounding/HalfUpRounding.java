@@ -3,17 +3,23 @@ package org.blacksmith.finlib.basic.rounding;
 import java.math.BigDecimal;
 import java.util.function.UnaryOperator;
 
+import org.blacksmith.finlib.basic.numbers.FixedPoint;
+
 public class HalfUpRounding implements Rounding {
 
   private static final int MIN_DECIMAL_PLACES = -15;
   private static final int MAX_DECIMAL_PLACES = 15;
   private static final int CACHE_SIZE = MAX_DECIMAL_PLACES - MIN_DECIMAL_PLACES + 1;
   private static final HalfUpRounding[] CACHE = new HalfUpRounding[CACHE_SIZE];
+  // fraction is at most 256 = 2^8, so a terminating quotient needs at most 8 more decimal places
+  private static final int MAX_FRACTION_DIGITS = 8;
 
   private final int decimalPlaces;
   private final int fraction;
   private final transient BigDecimal fractionDecimal;
   private final UnaryOperator<BigDecimal> function;
+  // exponent of the fraction if it is a power of ten, -1 otherwise
+  private final int fractionExponent;
 
   public HalfUpRounding(int decimalPlaces, int fraction) {
 
@@ -27,6 +33,7 @@ public class HalfUpRounding implements Rounding {
     this.fraction = (fraction <= 1 ? 0 : fraction);
     this.fractionDecimal = (fraction <= 1 ? null : BigDecimal.valueOf(this.fraction));
     this.function = (fraction > 1) ? this::roundWithFraction : this::roundWithoutFraction;
+    this.fractionExponent = powerOfTenExponent(this.fraction);
   }
 
   public static HalfUpRounding ofDecimalPlaces(int decimalPlaces) {
@@ -37,7 +44,7 @@ public class HalfUpRounding implements Rounding {
   }
 
   public static HalfUpRounding ofFractionalDecimalPlaces(int decimalPlaces, int fraction) {
-    return new HalfUpRounding(decimalPlaces, fraction);
+    return (HalfUpRounding) RoundingCache.get(RoundingMode.UP, decimalPlaces, fraction);
   }
 
   @Override
@@ -45,6 +52,29 @@ public class HalfUpRounding implements Rounding {
     return function.apply(value);
   }
 
+  @Override
+  public void round(double[] values, double[] result) {
+    if (fraction > 1) {
+      BulkRounding.roundEach(values, result, this);
+    } else {
+      BulkRounding.roundHalfUp(values, result, decimalPlaces, this);
+    }
+  }
+
+  @Override
+  public void round(BigDecimal[] values, BigDecimal[] result) {
+    BulkRounding.checkLength(values.length, result.length);
+    if (fraction > 1) {
+      for (int i = 0; i < values.length; i++) {
+        result[i] = roundWithFraction(values[i]);
+      }
+    } else {
+      for (int i = 0; i < values.length; i++) {
+        result[i] = roundWithoutFraction(values[i]);
+      }
+    }
+  }
+
   public int getDecimalPlaces() {
     return decimalPlaces;
   }
@@ -81,6 +111,10 @@ public class HalfUpRounding implements Rounding {
   }
 
   private BigDecimal roundWithFraction(BigDecimal value) {
+    BigDecimal result = roundWithFractionCompact(value);
+    if (result != null) {
+      return result;
+    }
     return value
         .multiply(fractionDecimal)
         .setScale(decimalPlaces, java.math.RoundingMode.HALF_UP)
@@ -88,7 +122,68 @@ public class HalfUpRounding implements Rounding {
   }
 
   private BigDecimal roundWithoutFraction(BigDecimal value) {
+    if (value.scale() == decimalPlaces) {
+      return value;
+    }
     return value.setScale(decimalPlaces, java.math.RoundingMode.HALF_UP);
   }
 
+  /**
+   * Rounds with fraction using long arithmetic, the result is the same as of the BigDecimal calculation.
+   *
+   * @return the rounded value or null if the value does not fit into a long
+   */
+  private BigDecimal roundWithFractionCompact(BigDecimal value) {
+    if (value.precision() > FixedPoint.MAX_SCALE) {
+      return null;
+    }
+    // unlike unscaledValue() no BigInteger is created, for a non-zero scale one BigDecimal is
+    long unscaled = FixedPoint.valueOf(value, value.scale());
+    if (unscaled == FixedPoint.INFLATED) {
+      return null;
+    }
+    long rounded;
+    if (fractionExponent > 0) {
+      // value * 10^k rounded to n places is the value rounded to n + k places
+      rounded = FixedPoint.rescale(unscaled, value.scale(), decimalPlaces + fractionExponent);
+    } else {
+      rounded = FixedPoint.rescale(FixedPoint.multiply(unscaled, fraction), value.scale(), decimalPlaces);
+    }
+    if (rounded == FixedPoint.INFLATED) {
+      return null;
+    }
+    return divideExact(rounded);
+  }
+
+  /**
+   * Divides {@code rounded * 10^-decimalPlaces} by the fraction, the quotient has the smallest scale
+   * not less than decimal places, the same as {@link BigDecimal#divide(BigDecimal)}.
+   *
+   * @return the quotient or null if it is not representable
+   */
+  private BigDecimal divideExact(long rounded) {
+    if (fractionExponent > 0) {
+      if (rounded % fraction == 0) {
+        return BigDecimal.valueOf(rounded / fraction, decimalPlaces);
+      }
+      return BigDecimal.valueOf(rounded, decimalPlaces + fractionExponent).stripTrailingZeros();
+    }
+    long dividend = rounded;
+    for (int i = 0; i <= MAX_FRACTION_DIGITS && dividend != FixedPoint.INFLATED; i++) {
+      if (dividend % fraction == 0) {
+        return BigDecimal.valueOf(dividend / fraction, decimalPlaces + i);
+      }
+      dividend = FixedPoint.multiply(dividend, 10);
+    }
+    return null;
+  }
+
+  private static int powerOfTenExponent(int value) {
+    int exponent = 0;
+    while (value > 1 && value % 10 == 0) {
+      value /= 10;
+      exponent++;
+    }
+    return value == 1 ? exponent : -1;
+  }
 }
@@ -0,0 +1,83 @@
+package org.blacksmith.finlib.basic.rounding;
+
+import java.math.BigDecimal;
+
+/**
+ * Rounding to decimal places or to a fraction of decimal places with any {@link java.math.RoundingMode}.
+ * <p>
+ * Instances should be obtained from {@link RoundingFactory}, which caches them.
+ */
+public class ModeRounding implements Rounding {
+
+  private final java.math.RoundingMode mode;
+  private final int decimalPlaces;
+  private final int fraction;
+  private final transient BigDecimal fractionDecimal;
+
+  public ModeRounding(java.math.RoundingMode mode, int decimalPlaces, int fraction) {
+    if (mode == null || mode == java.math.RoundingMode.UNNECESSARY) {
+      throw new IllegalArgumentException("Invalid rounding mode: " + mode);
+    }
+    if (decimalPlaces < -15 || decimalPlaces > 255) {
+      throw new IllegalArgumentException("Invalid decimal places, must be from -15 to 255 inclusive");
+    }
+    if (fraction < 0 || fraction > 256) {
+      throw new IllegalArgumentException("Invalid fraction, must be from 0 to 256 inclusive");
+    }
+    this.mode = mode;
+    this.decimalPlaces = decimalPlaces;
+    this.fraction = (fraction <= 1 ? 0 : fraction);
+    this.fractionDecimal = (fraction <= 1 ? null : BigDecimal.valueOf(this.fraction));
+  }
+
+  @Override
+  public BigDecimal round(BigDecimal value) {
+    if (fractionDecimal != null) {
+      return value
+          .multiply(fractionDecimal)
+          .setScale(decimalPlaces, mode)
+          .divide(fractionDecimal);
+    }
+    if (value.scale() == decimalPlaces) {
+      return value;
+    }
+    return value.setScale(decimalPlaces, mode);
+  }
+
+  public java.math.RoundingMode getMode() {
+    return mode;
+  }
+
+  public int getDecimalPlaces() {
+    return decimalPlaces;
+  }
+
+  public int getFraction() {
+    return fraction;
+  }
+
+  @Override
+  public int hashCode() {
+    return (mode.ordinal() << 24) + (this.decimalPlaces << 16) + this.fraction;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    ModeRounding other = (ModeRounding) obj;
+    return (mode == other.mode) && (decimalPlaces == other.decimalPlaces) && (fraction == other.fraction);
+  }
+
+  @Override
+  public String toString() {
+    return "Round " + mode + " to " + (fraction > 1 ? "1/" + fraction + " of " : "") + decimalPlaces + "dp";
+  }
+}
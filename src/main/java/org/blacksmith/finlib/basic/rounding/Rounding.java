@@ -1,6 +1,7 @@
 package org.blacksmith.finlib.basic.rounding;
 
 import java.math.BigDecimal;
+import java.nio.DoubleBuffer;
 
 public interface Rounding {
 
@@ -15,4 +16,37 @@ public interface Rounding {
 
   BigDecimal round(BigDecimal value);
 
+  /**
+   * Rounds all values, the result array may be the same as the values array.
+   *
+   * @param values the values
+   * @param result the array of the same length receiving rounded values
+   */
+  default void round(double[] values, double[] result) {
+    BulkRounding.roundEach(values, result, this);
+  }
+
+  /**
+   * Rounds remaining values of the buffer, positions of both buffers are advanced.
+   *
+   * @param values the values
+   * @param result the buffer receiving rounded values
+   */
+  default void round(DoubleBuffer values, DoubleBuffer result) {
+    BulkRounding.round(values, result, this);
+  }
+
+  /**
+   * Rounds all values, the result array may be the same as the values array.
+   *
+   * @param values the values
+   * @param result the array of the same length receiving rounded values
+   */
+  default void round(BigDecimal[] values, BigDecimal[] result) {
+    BulkRounding.checkLength(values.length, result.length);
+    for (int i = 0; i < values.length; i++) {
+      result[i] = round(values[i]);
+    }
+  }
+
 }
@@ -0,0 +1,58 @@
+package org.blacksmith.finlib.basic.rounding;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Flyweight cache of roundings by rounding mode, decimal places and fraction.
+ * <p>
+ * Lookup does not allocate, instances are created on first use.
+ */
+final class RoundingCache {
+
+  private static final int MIN_DECIMAL_PLACES = -15;
+  private static final int MAX_DECIMAL_PLACES = 255;
+  private static final int MAX_FRACTION = 256;
+  private static final int DECIMAL_PLACES_COUNT = MAX_DECIMAL_PLACES - MIN_DECIMAL_PLACES + 1;
+
+  // rows by mode and decimal places, each row holds roundings by fraction
+  private static final AtomicReferenceArray<AtomicReferenceArray<Rounding>> ROWS =
+      new AtomicReferenceArray<>(RoundingMode.values().length * DECIMAL_PLACES_COUNT);
+
+  private RoundingCache() {
+  }
+
+  static Rounding get(RoundingMode mode, int decimalPlaces, int fraction) {
+    if (mode == null) {
+      throw new IllegalArgumentException("Rounding mode must be not null");
+    }
+    if (decimalPlaces < MIN_DECIMAL_PLACES || decimalPlaces > MAX_DECIMAL_PLACES) {
+      throw new IllegalArgumentException("Invalid decimal places, must be from -15 to 255 inclusive");
+    }
+    if (fraction < 0 || fraction > MAX_FRACTION) {
+      throw new IllegalArgumentException("Invalid fraction, must be from 0 to 256 inclusive");
+    }
+    int normalizedFraction = fraction <= 1 ? 0 : fraction;
+    int rowIndex = mode.ordinal() * DECIMAL_PLACES_COUNT + decimalPlaces - MIN_DECIMAL_PLACES;
+    AtomicReferenceArray<Rounding> row = ROWS.get(rowIndex);
+    if (row == null) {
+      ROWS.compareAndSet(rowIndex, null, new AtomicReferenceArray<>(MAX_FRACTION + 1));
+      row = ROWS.get(rowIndex);
+    }
+    Rounding rounding = row.get(normalizedFraction);
+    if (rounding == null) {
+      row.compareAndSet(normalizedFraction, null, create(mode, decimalPlaces, normalizedFraction));
+      rounding = row.get(normalizedFraction);
+    }
+    return rounding;
+  }
+
+  private static Rounding create(RoundingMode mode, int decimalPlaces, int fraction) {
+    if (mode == RoundingMode.UP) {
+      return fraction == 0 ? HalfUpRounding.ofDecimalPlaces(decimalPlaces) : new HalfUpRounding(decimalPlaces, fraction);
+    }
+    if (mode == RoundingMode.DOWN && fraction == 0) {
+      return HalfDownRounding.ofDecimalPlaces(decimalPlaces);
+    }
+    return new ModeRounding(mode.toRoundingMode(), decimalPlaces, fraction);
+  }
+}
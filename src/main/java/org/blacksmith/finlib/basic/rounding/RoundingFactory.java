@@ -1,22 +1,25 @@
 package org.blacksmith.finlib.basic.rounding;
 
+/**
+ * Factory of roundings, instances are cached and shared.
+ */
 public class RoundingFactory {
   public static Rounding of(RoundingMode mode, int decimalPlaces) {
+    return RoundingCache.get(mode, decimalPlaces, 0);
+  }
+
+  /**
+   * Gets rounding specialized for doubles, rounding to the same results as {@link #of(RoundingMode, int)}.
+   */
+  public static Rounding ofDouble(RoundingMode mode, int decimalPlaces) {
     if (mode == RoundingMode.UP) {
-      return HalfUpRounding.ofDecimalPlaces(decimalPlaces);
+      return DoubleHalfUpRounding.ofDecimalPlaces(decimalPlaces);
     } else {
-      return HalfDownRounding.ofDecimalPlaces(decimalPlaces);
+      return of(mode, decimalPlaces);
     }
   }
 
   public static Rounding of(RoundingMode mode, int decimalPlaces, int fraction) {
-    if (mode == RoundingMode.UP) {
-      return HalfUpRounding.ofFractionalDecimalPlaces(decimalPlaces, fraction);
-    } else {
-      if (fraction > 1) {
-        throw new IllegalArgumentException("Fraction is not supported for truncating");
-      }
-      return HalfDownRounding.ofDecimalPlaces(decimalPlaces);
-    }
+    return RoundingCache.get(mode, decimalPlaces, fraction);
   }
 }
@@ -1,6 +1,38 @@
 package org.blacksmith.finlib.basic.rounding;
 
 public enum RoundingMode {
-  UP,
-  DOWN
+  /**
+   * Round half up, away from zero.
+   */
+  UP(java.math.RoundingMode.HALF_UP),
+  /**
+   * Truncate, round towards zero.
+   */
+  DOWN(java.math.RoundingMode.DOWN),
+  /**
+   * Round half to the even neighbour (banker's rounding).
+   */
+  HALF_EVEN(java.math.RoundingMode.HALF_EVEN),
+  /**
+   * Round half down, towards zero.
+   */
+  HALF_DOWN(java.math.RoundingMode.HALF_DOWN),
+  /**
+   * Round towards positive infinity.
+   */
+  CEILING(java.math.RoundingMode.CEILING),
+  /**
+   * Round towards negative infinity.
+   */
+  FLOOR(java.math.RoundingMode.FLOOR);
+
+  private final java.math.RoundingMode roundingMode;
+
+  RoundingMode(java.math.RoundingMode roundingMode) {
+    this.roundingMode = roundingMode;
+  }
+
+  public java.math.RoundingMode toRoundingMode() {
+    return roundingMode;
+  }
 }
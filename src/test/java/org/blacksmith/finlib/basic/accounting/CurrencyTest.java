@@ -1,6 +1,12 @@
 package org.blacksmith.finlib.basic.accounting;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
 
 import org.blacksmith.finlib.basic.currency.Currency;
 import org.junit.jupiter.api.Test;
@@ -12,4 +18,25 @@ public class CurrencyTest {
     assertSame(Currency.of("USD"), Currency.USD, "Cached USD");
     assertSame(Currency.of("QAZ"), Currency.of("QAZ"), "Cached QAZ");
   }
+
+  @Test
+  public void currencyLookupTest() {
+    byte[] message = "35=D|15=USD|55=1A2".getBytes(StandardCharsets.US_ASCII);
+    assertSame(Currency.USD, Currency.of(message, 8));
+    assertSame(Currency.of("1A2"), Currency.of(message, 15));
+    assertSame(Currency.EUR, Currency.of('E', 'U', 'R'));
+    assertSame(Currency.of("X1Y"), Currency.of('X', '1', 'Y'));
+    assertThrows(IllegalArgumentException.class, () -> Currency.of(message, 16));
+    assertThrows(IllegalArgumentException.class, () -> Currency.of("EURO"));
+  }
+
+  @Test
+  public void currencyOrdinalTest() {
+    Currency currency = Currency.of("QWE");
+    assertSame(currency, Currency.of("QWE"));
+    assertEquals(currency.getOrdinal(), Currency.of('Q', 'W', 'E').getOrdinal());
+    assertNotEquals(Currency.EUR.getOrdinal(), Currency.USD.getOrdinal());
+    assertTrue(currency.getOrdinal() < Currency.count());
+    assertSame(currency, Currency.ofOrdinal(currency.getOrdinal()));
+  }
 }
@@ -0,0 +1,43 @@
+package org.blacksmith.finlib.basic.accounting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.blacksmith.finlib.basic.currency.Currency;
+import org.junit.jupiter.api.Test;
+
+class DebitCreditAggregatorTest {
+
+  @Test
+  void aggregateByKey() {
+    List<DebitCredit> postings = List.of(
+        DebitCredit.of(1.5d, 0d), DebitCredit.of(0d, 2.25d), DebitCredit.of(3d, 0d), DebitCredit.of(0d, 0.01d));
+    Map<Boolean, DebitCredit> totals = DebitCreditAggregator.<DebitCredit, Boolean>of(dc -> dc.getDr().signum() > 0)
+        .aggregate(postings);
+    assertEquals(DebitCredit.of(4.5d, 0d), totals.get(true));
+    assertEquals(DebitCredit.of(0d, 2.26d), totals.get(false));
+  }
+
+  @Test
+  void parallelEqualsSequentialFold() {
+    Random random = new Random(11);
+    List<Currency> currencies = List.of(Currency.EUR, Currency.USD, Currency.PLN, Currency.GBP);
+    List<CurrencyAmount> postings = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      postings.add(CurrencyAmount.of(BigDecimal.valueOf(random.nextInt(2_000_000) - 1_000_000, 2),
+          currencies.get(random.nextInt(currencies.size()))));
+    }
+    Map<Currency, DebitCredit> expected = new HashMap<>();
+    postings.forEach(p -> expected.merge(p.getCurrency(), DebitCredit.ofValue(p.getAmount().getValue()), DebitCredit::add));
+    DebitCreditAggregator<CurrencyAmount, Currency> aggregator = DebitCreditAggregator.<CurrencyAmount, Currency>of(
+        CurrencyAmount::getCurrency, p -> DebitCredit.ofValue(p.getAmount().getValue())).withThreshold(1_000);
+    assertEquals(expected, aggregator.aggregate(postings));
+    assertEquals(expected, aggregator.aggregateParallel(postings));
+  }
+}
@@ -0,0 +1,82 @@
+package org.blacksmith.finlib.basic.accounting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.blacksmith.finlib.basic.numbers.Amount;
+import org.junit.jupiter.api.Test;
+
+class DebitCreditRegisterTest {
+
+  @Test
+  void postAndSnapshot() {
+    DebitCreditRegister<String> register = DebitCreditRegister.of(2);
+    register.postDr("A", Amount.of("10.00"));
+    register.postCr("A", new BigDecimal("2.505"));
+    register.post("A", Amount.of("1.00"), BookingSide.C);
+    register.post("B", DebitCredit.of(1d, 2d));
+    assertEquals(DebitCredit.of(new BigDecimal("10.00"), new BigDecimal("3.51")), register.snapshot("A"));
+    assertEquals(DebitCredit.of(new BigDecimal("1.00"), new BigDecimal("2.00")), register.snapshot("B"));
+    assertEquals(DebitCredit.of(new BigDecimal("0.00"), new BigDecimal("0.00")), register.snapshot("C"));
+    assertEquals(2, register.snapshot().size());
+    assertEquals(DebitCredit.of(new BigDecimal("1.00"), new BigDecimal("2.00")), register.remove("B"));
+    assertEquals(1, register.size());
+    assertThrows(ArithmeticException.class, () -> register.postDr("A", new BigDecimal("1E+30")));
+  }
+
+  @Test
+  void totalOverflow() {
+    DebitCreditRegister<String> register = DebitCreditRegister.of(2);
+    register.postDrUnscaled("A", Long.MAX_VALUE);
+    assertThrows(ArithmeticException.class, () -> register.postDrUnscaled("A", 1));
+    register.postCrUnscaled("A", -Long.MAX_VALUE);
+    assertThrows(ArithmeticException.class, () -> register.postCrUnscaled("A", -1));
+    assertEquals(DebitCredit.of(BigDecimal.valueOf(Long.MAX_VALUE, 2), BigDecimal.valueOf(-Long.MAX_VALUE, 2)),
+        register.snapshot("A"));
+  }
+
+  @Test
+  void removeAndPostAgain() {
+    DebitCreditRegister<String> register = DebitCreditRegister.of(2);
+    register.postDrUnscaled("A", 150);
+    register.postCrUnscaled("A", 25);
+    assertEquals(DebitCredit.of(new BigDecimal("1.50"), new BigDecimal("0.25")), register.remove("A"));
+    assertEquals(DebitCredit.of(new BigDecimal("0.00"), new BigDecimal("0.00")), register.remove("A"));
+    register.postDrUnscaled("A", 1);
+    assertEquals(DebitCredit.of(new BigDecimal("0.01"), new BigDecimal("0.00")), register.snapshot("A"));
+  }
+
+  @Test
+  void concurrentPosting() throws Exception {
+    DebitCreditRegister<Integer> register = DebitCreditRegister.of(2);
+    int threads = 8;
+    int postings = 10_000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < postings; i++) {
+            register.postDrUnscaled(i % 4, 1);
+            register.post(i % 4, Amount.of("0.02"), BookingSide.C);
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    for (int key = 0; key < 4; key++) {
+      assertEquals(DebitCredit.of(new BigDecimal("200.00"), new BigDecimal("400.00")), register.snapshot(key));
+    }
+  }
+}
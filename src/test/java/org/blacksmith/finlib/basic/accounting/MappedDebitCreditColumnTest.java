@@ -0,0 +1,101 @@
+package org.blacksmith.finlib.basic.accounting;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.blacksmith.finlib.basic.numbers.FixedPoint;
+import org.junit.jupiter.api.Test;
+
+class MappedDebitCreditColumnTest {
+
+  @Test
+  void writeAndReopen() throws IOException {
+    Path path = Files.createTempFile("debit-credit", ".col");
+    try {
+      try (MappedDebitCreditColumn column = MappedDebitCreditColumn.write(path,
+          List.of(DebitCredit.of(10.5d, 0d), DebitCredit.of(0d, 3.125d), DebitCredit.ZERO), 2)) {
+        assertEquals(3, column.size());
+      }
+      try (MappedDebitCreditColumn column = MappedDebitCreditColumn.openReadOnly(path)) {
+        assertEquals(3, column.size());
+        assertEquals(2, column.decimalPlaces());
+        assertEquals(new BigDecimal("10.50"), column.get(0).getDr());
+        assertEquals(new BigDecimal("0.00"), column.get(0).getCr());
+        assertEquals(new BigDecimal("3.13"), column.get(1).getCr());
+        assertEquals(-313L, column.get(1).getDrValue().movePointRight(2).longValueExact());
+        assertTrue(column.get(2).isZero());
+        assertEquals(DebitCredit.of(new BigDecimal("11.50"), new BigDecimal("3.13")),
+            column.get(0).add(column.get(1)).add(DebitCredit.of(BigDecimal.ONE, BigDecimal.ZERO)));
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Test
+  void updateInPlace() throws IOException {
+    Path path = Files.createTempFile("debit-credit", ".col");
+    try {
+      try (MappedDebitCreditColumn column = MappedDebitCreditColumn.create(path, 2, 2)) {
+        IDebitCredit<DebitCredit> view = column.get(1);
+        column.setUnscaled(1, 150, 25);
+        assertEquals(DebitCredit.of(new BigDecimal("1.50"), new BigDecimal("0.25")), view.clone());
+        assertThrows(IndexOutOfBoundsException.class, () -> column.getDrUnscaled(2));
+      }
+      try (MappedDebitCreditColumn column = MappedDebitCreditColumn.open(path)) {
+        assertEquals(150L, column.getDrUnscaled(1));
+        assertEquals(25L, column.getCrUnscaled(1));
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Test
+  void rejectInvalidValues() throws IOException {
+    Path path = Files.createTempFile("debit-credit", ".col");
+    try {
+      byte[] content = { 1, 2, 3 };
+      Files.write(path, content);
+      assertThrows(ArithmeticException.class, () -> MappedDebitCreditColumn.write(path,
+          List.of(DebitCredit.of(1d, 2d), DebitCredit.of(new BigDecimal("1E+30"), BigDecimal.ZERO)), 2));
+      assertArrayEquals(content, Files.readAllBytes(path));
+      try (MappedDebitCreditColumn column = MappedDebitCreditColumn.create(path, 1, 2)) {
+        column.setUnscaled(0, 1, 2);
+      }
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+        channel.write(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, FixedPoint.INFLATED), 40);
+      }
+      try (MappedDebitCreditColumn column = MappedDebitCreditColumn.openReadOnly(path)) {
+        assertEquals(new BigDecimal("0.01"), column.get(0).getDr());
+        assertThrows(ArithmeticException.class, () -> column.get(0).getCr());
+        assertThrows(ArithmeticException.class, () -> column.getDebitCredit(0));
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Test
+  void invalidFile() throws IOException {
+    Path path = Files.createTempFile("debit-credit", ".col");
+    try {
+      Files.write(path, new byte[64]);
+      assertThrows(IOException.class, () -> MappedDebitCreditColumn.openReadOnly(path));
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+}
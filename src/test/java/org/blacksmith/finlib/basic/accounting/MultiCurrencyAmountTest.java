@@ -0,0 +1,74 @@
+package org.blacksmith.finlib.basic.accounting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.blacksmith.finlib.basic.currency.Currency;
+import org.blacksmith.finlib.basic.numbers.Rate;
+import org.blacksmith.finlib.basic.rate.FxRate;
+import org.blacksmith.finlib.basic.rate.FxRateMatrix;
+import org.junit.jupiter.api.Test;
+
+public class MultiCurrencyAmountTest {
+
+  private static CurrencyAmount amount(String value, Currency currency) {
+    return CurrencyAmount.of(new BigDecimal(value), currency);
+  }
+
+  @Test
+  void addAndSubtract() {
+    MultiCurrencyAmount balance = MultiCurrencyAmount.empty()
+        .add(amount("10.00", Currency.EUR))
+        .add(amount("5.50", Currency.USD))
+        .add(amount("2.25", Currency.EUR))
+        .subtract(amount("1000", Currency.JPY));
+    assertEquals(3, balance.size());
+    assertEquals(amount("12.25", Currency.EUR), balance.getAmount(Currency.EUR));
+    assertEquals(amount("5.50", Currency.USD), balance.getAmount(Currency.USD));
+    assertEquals(amount("-1000", Currency.JPY), balance.getAmount(Currency.JPY));
+    assertEquals(amount("0.00", Currency.PLN), balance.getAmount(Currency.PLN));
+    assertFalse(balance.findAmount(Currency.PLN).isPresent());
+    assertTrue(balance.contains(Currency.USD));
+    assertEquals(List.of(Currency.EUR, Currency.USD, Currency.JPY), balance.getCurrencies());
+
+    MultiCurrencyAmount other = MultiCurrencyAmount.of(amount("1.25", Currency.EUR), amount("3.00", Currency.PLN),
+        amount("0.75", Currency.EUR));
+    assertEquals(amount("2.00", Currency.EUR), other.getAmount(Currency.EUR));
+    MultiCurrencyAmount sum = balance.add(other);
+    assertEquals(4, sum.size());
+    assertEquals(amount("14.25", Currency.EUR), sum.getAmount(Currency.EUR));
+    assertEquals(amount("3.00", Currency.PLN), sum.getAmount(Currency.PLN));
+    // subtracted currencies are kept with zero amount
+    assertEquals(balance.add(amount("0.00", Currency.PLN)), sum.subtract(other));
+    assertSame(balance, balance.add(MultiCurrencyAmount.empty()));
+  }
+
+  @Test
+  void negate() {
+    MultiCurrencyAmount balance = MultiCurrencyAmount.of(amount("10.00", Currency.EUR), amount("-5.50", Currency.USD));
+    MultiCurrencyAmount negated = balance.negate();
+    assertEquals(amount("-10.00", Currency.EUR), negated.getAmount(Currency.EUR));
+    assertEquals(amount("5.50", Currency.USD), negated.getAmount(Currency.USD));
+    assertEquals(balance, negated.negate());
+    assertTrue(MultiCurrencyAmount.of(List.of()).isEmpty());
+  }
+
+  @Test
+  void convert() {
+    FxRateMatrix matrix = FxRateMatrix.of(List.of(
+        FxRate.of(Currency.EUR, Currency.USD, Rate.of("1.10")),
+        FxRate.of(Currency.USD, Currency.PLN, Rate.of("4.00"))), Currency.USD);
+    MultiCurrencyAmount balance = MultiCurrencyAmount.of(amount("10.00", Currency.EUR), amount("2.50", Currency.USD),
+        amount("1.00", Currency.PLN));
+    assertEquals(amount("55.00", Currency.PLN), balance.convert(matrix, Currency.PLN));
+    assertEquals(amount("0.00", Currency.PLN), MultiCurrencyAmount.empty().convert(matrix, Currency.PLN));
+    assertThrows(IllegalArgumentException.class,
+        () -> balance.add(amount("1", Currency.JPY)).convert(matrix, Currency.PLN));
+  }
+}
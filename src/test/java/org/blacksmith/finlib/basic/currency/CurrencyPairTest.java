@@ -0,0 +1,46 @@
+package org.blacksmith.finlib.basic.currency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class CurrencyPairTest {
+
+  @Test
+  void parse() {
+    CurrencyPair pair = CurrencyPair.of("EUR/USD");
+    assertSame(Currency.EUR, pair.getBase());
+    assertSame(Currency.USD, pair.getCounter());
+    assertSame(pair, CurrencyPair.of("eur/usd"));
+    assertSame(pair, CurrencyPair.of(new StringBuilder("EUR/USD")));
+    assertSame(pair, CurrencyPair.of("8=FIX|55=EUR/USD|".getBytes(StandardCharsets.US_ASCII), 9));
+    assertSame(pair, CurrencyPair.of("EUR", "USD"));
+    assertSame(pair, CurrencyPair.of(Currency.USD, Currency.EUR).inverse());
+    assertEquals(new CurrencyPair(Currency.EUR, Currency.USD), pair);
+    assertSame(CurrencyPair.of("X1Y/ZZ9"), CurrencyPair.of("x1y/zz9"));
+  }
+
+  @Test
+  void parseInvalid() {
+    assertThrows(IllegalArgumentException.class, () -> CurrencyPair.of("EUR-USD"));
+    assertThrows(IllegalArgumentException.class, () -> CurrencyPair.of("EUR/US"));
+    assertThrows(IllegalArgumentException.class, () -> CurrencyPair.of("EUR/U$D"));
+    assertThrows(IllegalArgumentException.class, () -> CurrencyPair.of("EUR/USD".getBytes(StandardCharsets.US_ASCII), 1));
+  }
+
+  @Test
+  void internManyPairs() {
+    for (int i = 0; i < 40; i++) {
+      Currency base = Currency.of("P" + (char) ('A' + i % 26) + (char) ('A' + i / 26));
+      for (int j = 0; j < 40; j++) {
+        Currency counter = Currency.of("C" + (char) ('A' + j % 26) + (char) ('A' + j / 26));
+        CurrencyPair pair = CurrencyPair.of(base, counter);
+        assertSame(pair, CurrencyPair.of(base.getCurrencyCode() + "/" + counter.getCurrencyCode()));
+      }
+    }
+  }
+}
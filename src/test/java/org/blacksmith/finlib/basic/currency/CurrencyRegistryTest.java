@@ -0,0 +1,56 @@
+package org.blacksmith.finlib.basic.currency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.blacksmith.finlib.basic.accounting.CurrencyAmount;
+import org.junit.jupiter.api.Test;
+
+public class CurrencyRegistryTest {
+
+  @Test
+  void minorUnits() {
+    assertEquals(2, CurrencyRegistry.getMinorUnits(Currency.EUR));
+    assertEquals(0, CurrencyRegistry.getMinorUnits(Currency.JPY));
+    assertEquals(3, CurrencyRegistry.getMinorUnits(Currency.of("KWD")));
+    assertEquals(4, CurrencyRegistry.getMinorUnits(Currency.of("CLF")));
+    assertTrue(CurrencyRegistry.contains(Currency.PLN));
+    assertFalse(CurrencyRegistry.contains(Currency.of("QAZ")));
+    assertEquals(CurrencyRegistry.DEFAULT_MINOR_UNITS, CurrencyRegistry.getMinorUnits(Currency.of("QAZ")));
+  }
+
+  @Test
+  void currencyAmountScale() {
+    assertEquals(new BigDecimal("1235"), CurrencyAmount.of(new BigDecimal("1234.567"), Currency.JPY).getAmount().getValue());
+    assertEquals(new BigDecimal("1.235"), CurrencyAmount.of(1.2345d, Currency.of("BHD")).getAmount().getValue());
+    assertEquals(new BigDecimal("10.00"), CurrencyAmount.of(10L, Currency.USD).getAmount().getValue());
+  }
+
+  @Test
+  void cashRounding() {
+    Currency chf = Currency.CHF;
+    assertEquals(new BigDecimal("0.05"), CurrencyMetadata.of(chf).getCashIncrement());
+    assertEquals(new BigDecimal("1.25"), CurrencyAmount.of(new BigDecimal("1.23"), chf).roundCash().getAmount().getValue());
+    assertEquals(new BigDecimal("1.20"), CurrencyAmount.of(new BigDecimal("1.22"), chf).roundCash().getAmount().getValue());
+    assertEquals(new BigDecimal("15.00"), CurrencyAmount.of(new BigDecimal("13"), Currency.of("HUF")).roundCash()
+        .getAmount().getValue());
+    assertEquals(new BigDecimal("2.50"), CurrencyAmount.of(new BigDecimal("2.37"), Currency.of("DKK")).roundCash()
+        .getAmount().getValue());
+    assertEquals(new BigDecimal("1.23"), CurrencyAmount.of(new BigDecimal("1.23"), Currency.EUR).roundCash()
+        .getAmount().getValue());
+  }
+
+  @Test
+  void unsupportedCashIncrement() {
+    Currency currency = Currency.of("QAZ");
+    assertThrows(IllegalArgumentException.class, () -> new CurrencyMetadata(currency, 2, new BigDecimal("0.03")));
+    assertThrows(IllegalArgumentException.class, () -> new CurrencyMetadata(currency, 2, new BigDecimal("0.07")));
+    assertThrows(IllegalArgumentException.class, () -> new CurrencyMetadata(currency, 2, new BigDecimal("1.23")));
+    assertEquals(new BigDecimal("0.25"), new CurrencyMetadata(currency, 2, new BigDecimal("0.25")).getCashRounding()
+        .round(new BigDecimal("0.13")));
+  }
+}
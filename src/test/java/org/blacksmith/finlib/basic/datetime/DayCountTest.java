@@ -0,0 +1,79 @@
+package org.blacksmith.finlib.basic.datetime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+import org.blacksmith.finlib.basic.numbers.Amount;
+import org.blacksmith.finlib.basic.numbers.Rate;
+import org.junit.jupiter.api.Test;
+
+class DayCountTest {
+
+  private static final LocalDate START = LocalDate.parse("2020-01-31");
+  private static final LocalDate END = LocalDate.parse("2021-03-31");
+
+  @Test
+  void yearFraction() {
+    assertEquals(425d / 360, StandardDayCount.ACT_360.yearFraction(START, END), 0d);
+    assertEquals(425d / 365, StandardDayCount.ACT_365F.yearFraction(START, END), 0d);
+    assertEquals(336d / 366 + 89d / 365, StandardDayCount.ACT_ACT_ISDA.yearFraction(START, END), 1e-15);
+    assertEquals(-(336d / 366 + 89d / 365), StandardDayCount.ACT_ACT_ISDA.yearFraction(END, START), 1e-15);
+    assertEquals(1d, StandardDayCount.ACT_ACT_ISDA.yearFraction(LocalDate.parse("2020-01-01"),
+        LocalDate.parse("2021-01-01")), 0d);
+    assertEquals(420d / 360, StandardDayCount.THIRTY_360.yearFraction(START, END), 0d);
+    assertEquals(420d / 360, StandardDayCount.THIRTY_E_360.yearFraction(START, END), 0d);
+    // end date 31 kept when start date is before day 30
+    assertEquals(33d / 360, StandardDayCount.THIRTY_360.yearFraction(LocalDate.parse("2021-02-28"),
+        LocalDate.parse("2021-03-31")), 0d);
+    assertEquals(32d / 360, StandardDayCount.THIRTY_E_360.yearFraction(LocalDate.parse("2021-02-28"),
+        LocalDate.parse("2021-03-31")), 0d);
+    assertEquals(StandardDayCount.THIRTY_E_360, StandardDayCount.ofName("30E/360"));
+    assertThrows(IllegalArgumentException.class, () -> StandardDayCount.ofName("ACT/ACT"));
+  }
+
+  @Test
+  void bulkYearFraction() {
+    int size = 1000;
+    int[] starts = new int[size];
+    int[] ends = new int[size];
+    for (int i = 0; i < size; i++) {
+      starts[i] = EpochDays.of(START) + i * 7;
+      ends[i] = starts[i] + 1 + i % 800;
+    }
+    for (StandardDayCount dayCount : StandardDayCount.values()) {
+      double[] expected = new double[size];
+      for (int i = 0; i < size; i++) {
+        expected[i] = dayCount.yearFraction(LocalDate.ofEpochDay(starts[i]), LocalDate.ofEpochDay(ends[i]));
+      }
+      double[] result = new double[size];
+      dayCount.yearFraction(starts, ends, result);
+      assertArrayEquals(expected, result, dayCount.getName());
+    }
+    assertThrows(IllegalArgumentException.class,
+        () -> StandardDayCount.ACT_360.yearFraction(starts, ends, new double[1]));
+  }
+
+  @Test
+  void accrual() {
+    Amount notional = Amount.of("1000000.00");
+    Rate rate = Rate.of("0.0375");
+    assertEquals(Amount.of("44270.83"), StandardDayCount.ACT_360.accrual(notional, rate, START, END));
+    assertEquals(Amount.of("-44270.83"), StandardDayCount.ACT_360.accrual(notional, rate, END, START));
+    // single rounding of notional * rate * (336 / 366 + 89 / 365)
+    BigDecimal exact = new BigDecimal("37500.0000").multiply(BigDecimal.valueOf(336 * 365 + 89 * 366))
+        .divide(BigDecimal.valueOf(365 * 366), 2, RoundingMode.HALF_UP);
+    assertEquals(Amount.of(exact, 2), StandardDayCount.ACT_ACT_ISDA.accrual(notional, rate, START, END));
+    assertEquals(Amount.of("43750.000"), StandardDayCount.THIRTY_360.accrual(notional, rate,
+        EpochDays.of(START), EpochDays.of(END), 3));
+    // product overflowing a long
+    Amount large = Amount.of("123456789012345.67");
+    BigDecimal expected = large.getValue().multiply(rate.getValue()).multiply(BigDecimal.valueOf(425))
+        .divide(BigDecimal.valueOf(360), 2, RoundingMode.HALF_UP);
+    assertEquals(Amount.of(expected, 2), StandardDayCount.ACT_360.accrual(large, rate, START, END));
+  }
+}
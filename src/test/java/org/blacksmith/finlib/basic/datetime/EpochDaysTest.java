@@ -0,0 +1,47 @@
+package org.blacksmith.finlib.basic.datetime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+class EpochDaysTest {
+
+  @Test
+  void fields() {
+    for (LocalDate date = LocalDate.parse("1599-12-01"); date.isBefore(LocalDate.parse("2401-03-01"));
+        date = date.plusDays(1)) {
+      int epochDay = EpochDays.of(date);
+      assertEquals(date.getYear(), EpochDays.year(epochDay));
+      assertEquals(date.getMonthValue(), EpochDays.month(epochDay));
+      assertEquals(date.getDayOfMonth(), EpochDays.dayOfMonth(epochDay));
+      assertEquals(date.getYear() * 12 + date.getMonthValue() - 1, EpochDays.monthIndex(epochDay));
+      assertEquals(date.getDayOfWeek(), EpochDays.dayOfWeek(epochDay));
+      assertEquals(epochDay, EpochDays.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+    }
+    assertEquals(LocalDate.parse("-0001-02-28"), EpochDays.toLocalDate(EpochDays.of(-1, 2, 28)));
+    assertTrue(EpochDays.isLeapYear(2000));
+    assertFalse(EpochDays.isLeapYear(2100));
+  }
+
+  @Test
+  void plusMonths() {
+    for (LocalDate date = LocalDate.parse("1999-11-01"); date.isBefore(LocalDate.parse("2005-03-01"));
+        date = date.plusDays(1)) {
+      int epochDay = EpochDays.of(date);
+      for (int months = -30; months <= 30; months++) {
+        assertEquals(date.plusMonths(months), EpochDays.toLocalDate(EpochDays.plusMonths(epochDay, months)));
+        assertEquals(date.plusDays(1).plusMonths(months).minusDays(1),
+            EpochDays.toLocalDate(EpochDays.plusMonthsEom(epochDay, months)));
+      }
+      assertEquals(date.getDayOfMonth() == date.lengthOfMonth(), EpochDays.isLastDayOfMonth(epochDay));
+    }
+    assertEquals(LocalDate.parse("2021-02-27"),
+        EpochDays.toLocalDate(EpochDays.plusMonthsEom(EpochDays.of(LocalDate.parse("2021-01-30")), 1)));
+    assertEquals(29, EpochDays.lengthOfMonth(2000, 2));
+    assertEquals(28, EpochDays.lengthOfMonth(1900, 2));
+  }
+}
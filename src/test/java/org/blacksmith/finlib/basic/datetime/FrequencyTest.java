@@ -1,9 +1,15 @@
 package org.blacksmith.finlib.basic.datetime;
 
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FrequencyTest {
@@ -93,6 +99,78 @@ public class FrequencyTest {
     Frequency oneWeek = Frequency.ofWeeks(1);
     Frequency twoWeeks = Frequency.ofWeeks(2);
     Frequency threeWeeks = Frequency.ofWeeks(3);
+    assertSame(Frequency.P2D, twoDays);
+    assertSame(threeDays, Frequency.ofDays(3));
+    assertSame(Frequency.P1W, oneWeek);
+    assertSame(Frequency.P2W, twoWeeks);
+    assertSame(threeWeeks, Frequency.ofDays(21));
+    assertSame(Frequency.P1Y, Frequency.ofMonths(12));
+    assertSame(Frequency.ofDays(1000), Frequency.ofDays(1000));
+    assertSame(Frequency.TERM, Frequency.of(10_000, TimeUnit.YEAR));
   }
 
+  @Test
+  public void parse() {
+    assertSame(Frequency.P3M, Frequency.parse("P3M"));
+    assertSame(Frequency.P3M, Frequency.parse("3M"));
+    assertSame(Frequency.P2W, Frequency.parse("2W"));
+    assertSame(Frequency.ofDays(14), Frequency.parse("P2W"));
+    assertEquals(Frequency.of(14, TimeUnit.DAY), Frequency.parse("P14D"));
+    assertSame(Frequency.of(1, TimeUnit.QUARTER), Frequency.parse("P1Q"));
+    assertSame(Frequency.of(18, TimeUnit.MONTH), Frequency.parse("1Y6M"));
+    assertSame(Frequency.P1Y, Frequency.parse("1y"));
+    assertSame(Frequency.TERM, Frequency.parse("TERM"));
+    assertSame(Frequency.of(400, TimeUnit.MONTH), Frequency.parse("P400M"));
+    assertThrows(IllegalArgumentException.class, () -> Frequency.parse("P"));
+    assertThrows(IllegalArgumentException.class, () -> Frequency.parse("P0M"));
+    assertThrows(IllegalArgumentException.class, () -> Frequency.parse("P-1M"));
+    assertThrows(IllegalArgumentException.class, () -> Frequency.parse("P3X"));
+    assertThrows(IllegalArgumentException.class, () -> Frequency.parse("P6M1Y"));
+    assertThrows(IllegalArgumentException.class, () -> Frequency.parse("P99999999999M"));
+  }
+
+  @Test
+  public void addToEpochDay() {
+    LocalDate date = LocalDate.parse("2020-01-31");
+    int epochDay = (int) date.toEpochDay();
+    for (Frequency frequency : List.of(Frequency.P2D, Frequency.P2W, Frequency.P1M, Frequency.P3M, Frequency.P1Y,
+        Frequency.of(2, TimeUnit.HALF_YEAR))) {
+      assertEquals(frequency.addTo(date), LocalDate.ofEpochDay(frequency.addToEpochDay(epochDay)));
+      for (int i = -4; i <= 4; i++) {
+        assertEquals(frequency.addTo(date, i), LocalDate.ofEpochDay(frequency.addToEpochDay(epochDay, i, false)));
+        assertEquals(frequency.addToWithEomAdjust(date, i, true),
+            LocalDate.ofEpochDay(frequency.addToEpochDay(epochDay, i, true)));
+      }
+    }
+    assertEquals(LocalDate.parse("2020-04-30"), LocalDate.ofEpochDay(Frequency.P1M.addToEpochDay(epochDay, 3, true)));
+  }
+
+  @Test
+  public void multiUnit() {
+    Frequency frequency = Frequency.parse("P1M15D");
+    assertSame(frequency, Frequency.ofMonthsAndDays(1, 15));
+    assertSame(frequency, Frequency.ofPeriod(Period.of(0, 1, 15)));
+    assertSame(Frequency.ofMonthsAndDays(14, 14), Frequency.parse("1Y2M2W"));
+    assertTrue(frequency.isMultiUnit());
+    assertFalse(Frequency.P1M.isMultiUnit());
+    assertEquals("P1M15D", frequency.toString());
+    assertEquals(Period.of(0, 1, 15), frequency.toPeriod());
+    assertEquals(0, frequency.eventsPerYear());
+    assertEquals(364d / (364d / 12 + 15), frequency.eventsPerYearEstimate(), 1e-12);
+    LocalDate date = LocalDate.parse("2020-01-31");
+    int epochDay = (int) date.toEpochDay();
+    assertEquals(LocalDate.parse("2020-03-15"), frequency.addTo(date));
+    assertEquals(LocalDate.parse("2019-12-16"), frequency.subtractFrom(date));
+    for (int i = -100; i <= 100; i++) {
+      LocalDate expected = date.plusMonths(i).plusDays(15L * i);
+      assertEquals(expected, frequency.addTo(date, i));
+      assertEquals(expected, frequency.subtractFrom(date, -i));
+      assertEquals(expected, LocalDate.ofEpochDay(frequency.addToEpochDay(epochDay, i, false)));
+      LocalDate eomExpected = date.plusDays(1).plusMonths(i).minusDays(1).plusDays(15L * i);
+      assertEquals(eomExpected, frequency.addToWithEomAdjust(date, i, true));
+      assertEquals(eomExpected, LocalDate.ofEpochDay(frequency.addToEpochDay(epochDay, i, true)));
+    }
+    assertThrows(IllegalArgumentException.class, () -> Frequency.ofMonthsAndDays(-1, 15));
+    assertThrows(IllegalArgumentException.class, () -> Frequency.ofMonthsAndDays(0, 0));
+  }
 }
@@ -0,0 +1,100 @@
+package org.blacksmith.finlib.basic.datetime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class HolidayCalendarTest {
+
+  private final HolidayCalendar calendar = HolidayCalendar.of("TEST", LocalDate.parse("2021-01-01"),
+      LocalDate.parse("2022-12-31"), List.of(LocalDate.parse("2021-01-01"), LocalDate.parse("2021-04-05"),
+          LocalDate.parse("2021-05-03"), LocalDate.parse("2021-12-24"), LocalDate.parse("2021-12-31"),
+          LocalDate.parse("2030-01-01")));
+
+  @Test
+  void businessDays() {
+    assertFalse(calendar.isBusinessDay(LocalDate.parse("2021-01-01")));
+    assertFalse(calendar.isBusinessDay(LocalDate.parse("2021-01-02")));
+    assertTrue(calendar.isBusinessDay(LocalDate.parse("2021-01-04")));
+    assertTrue(calendar.isHoliday(LocalDate.parse("2021-04-05")));
+    assertEquals(LocalDate.parse("2021-01-04"), calendar.nextOrSame(LocalDate.parse("2021-01-01")));
+    assertEquals(LocalDate.parse("2021-01-04"), calendar.nextOrSame(LocalDate.parse("2021-01-04")));
+    assertEquals(LocalDate.parse("2021-01-05"), calendar.next(LocalDate.parse("2021-01-04")));
+    assertEquals(LocalDate.parse("2021-12-23"), calendar.previousOrSame(LocalDate.parse("2021-12-26")));
+    assertEquals(LocalDate.parse("2021-12-30"), calendar.previous(LocalDate.parse("2022-01-03")));
+    assertEquals(LocalDate.parse("2021-04-07"), calendar.addBusinessDays(LocalDate.parse("2021-04-01"), 3));
+    assertEquals(LocalDate.parse("2021-04-01"), calendar.addBusinessDays(LocalDate.parse("2021-04-06"), -2));
+    assertEquals(LocalDate.parse("2021-04-07"), calendar.addBusinessDays(LocalDate.parse("2021-04-03"), 2));
+    assertEquals(LocalDate.parse("2021-04-02"), calendar.addBusinessDays(LocalDate.parse("2021-04-04"), -1));
+    assertEquals(3, calendar.businessDaysBetween(LocalDate.parse("2021-04-01"), LocalDate.parse("2021-04-07")));
+    assertEquals(0, calendar.businessDaysBetween(LocalDate.parse("2021-04-03"), LocalDate.parse("2021-04-03")));
+    assertEquals(260, calendar.businessDaysBetween(LocalDate.parse("2022-01-01"), LocalDate.parse("2023-01-01")));
+  }
+
+  @Test
+  void businessDaysParity() {
+    HolidayCalendar fridays = HolidayCalendar.builder("FRI", LocalDate.parse("2020-01-01"), LocalDate.parse("2020-12-31"))
+        .weekends(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY)
+        .holiday(LocalDate.parse("2020-05-21"))
+        .build();
+    int count = 0;
+    for (LocalDate date = LocalDate.parse("2020-01-01"); date.getYear() == 2020; date = date.plusDays(1)) {
+      boolean business = date.getDayOfWeek() != DayOfWeek.FRIDAY && date.getDayOfWeek() != DayOfWeek.SATURDAY
+          && !date.equals(LocalDate.parse("2020-05-21"));
+      assertEquals(business, fridays.isBusinessDay(date), date.toString());
+      assertEquals(count, fridays.businessDaysBetween(LocalDate.parse("2020-01-01"), date));
+      if (business) {
+        count++;
+      }
+      if (date.getDayOfYear() > 7 && date.getDayOfYear() < 355) {
+        LocalDate next = date;
+        while (!fridays.isBusinessDay(next)) {
+          next = next.plusDays(1);
+        }
+        assertEquals(next, fridays.nextOrSame(date));
+        LocalDate previous = date.minusDays(1);
+        while (!fridays.isBusinessDay(previous)) {
+          previous = previous.minusDays(1);
+        }
+        assertEquals(previous, fridays.previous(date));
+      }
+    }
+  }
+
+  @Test
+  void conventions() {
+    LocalDate saturday = LocalDate.parse("2021-07-31");
+    assertEquals(saturday, BusinessDayConvention.UNADJUSTED.adjust(saturday, calendar));
+    assertEquals(LocalDate.parse("2021-08-02"), BusinessDayConvention.FOLLOWING.adjust(saturday, calendar));
+    assertEquals(LocalDate.parse("2021-07-30"), BusinessDayConvention.MODIFIED_FOLLOWING.adjust(saturday, calendar));
+    assertEquals(LocalDate.parse("2021-07-30"), BusinessDayConvention.PRECEDING.adjust(saturday, calendar));
+    LocalDate sunday = LocalDate.parse("2021-08-01");
+    assertEquals(LocalDate.parse("2021-08-02"), BusinessDayConvention.MODIFIED_PRECEDING.adjust(sunday, calendar));
+    assertEquals(LocalDate.parse("2021-08-02"), BusinessDayConvention.MODIFIED_FOLLOWING.adjust(sunday, calendar));
+    LocalDate monday = LocalDate.parse("2021-08-02");
+    assertEquals(monday, BusinessDayConvention.MODIFIED_FOLLOWING.adjust(monday, calendar));
+  }
+
+  @Test
+  void adjustedOperation() {
+    DateOperation operation = Tenor.TENOR_3M.adjusted(BusinessDayConvention.MODIFIED_FOLLOWING, calendar);
+    assertEquals(LocalDate.parse("2021-07-30"), operation.addTo(LocalDate.parse("2021-04-30")));
+    assertEquals(LocalDate.parse("2021-02-26"), operation.subtractFrom(LocalDate.parse("2021-05-31")));
+    assertEquals(LocalDate.parse("2021-05-04"),
+        Frequency.P1M.adjusted(BusinessDayConvention.FOLLOWING, calendar).addTo(LocalDate.parse("2021-04-03")));
+  }
+
+  @Test
+  void outOfRange() {
+    assertThrows(IllegalArgumentException.class, () -> calendar.isBusinessDay(LocalDate.parse("2020-12-31")));
+    assertThrows(IllegalArgumentException.class, () -> calendar.next(LocalDate.parse("2022-12-30")));
+    assertThrows(IllegalArgumentException.class, () -> calendar.previous(LocalDate.parse("2021-01-04")));
+  }
+}
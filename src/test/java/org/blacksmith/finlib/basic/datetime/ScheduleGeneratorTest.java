@@ -0,0 +1,108 @@
+package org.blacksmith.finlib.basic.datetime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class ScheduleGeneratorTest {
+
+  private final ScheduleGenerator generator = ScheduleGenerator.of(16);
+
+  private static List<LocalDate> dates(String... dates) {
+    return List.of(dates).stream().map(LocalDate::parse).collect(Collectors.toList());
+  }
+
+  @Test
+  void regular() {
+    Schedule schedule = generator.generate(LocalDate.parse("2021-01-15"), Tenor.TENOR_1Y, Frequency.P3M, false,
+        StubConvention.SHORT_FINAL);
+    assertEquals(dates("2021-01-15", "2021-04-15", "2021-07-15", "2021-10-15", "2022-01-15"), schedule.getDates());
+    assertEquals(4, schedule.periodCount());
+    assertEquals(LocalDate.parse("2021-04-15").toEpochDay(), schedule.getEpochDay(1));
+    assertEquals(schedule, generator.generate(LocalDate.parse("2021-01-15"), LocalDate.parse("2022-01-15"),
+        Frequency.P3M, false, StubConvention.SHORT_INITIAL));
+  }
+
+  @Test
+  void multiUnitFrequency() {
+    assertEquals(dates("2021-01-15", "2021-03-02", "2021-04-14", "2021-05-30", "2021-07-01"),
+        generator.generate(LocalDate.parse("2021-01-15"), LocalDate.parse("2021-07-01"), Frequency.parse("1M15D"),
+            false, StubConvention.SHORT_FINAL).getDates());
+  }
+
+  @Test
+  void stubs() {
+    LocalDate start = LocalDate.parse("2021-01-15");
+    LocalDate end = LocalDate.parse("2021-12-01");
+    assertEquals(dates("2021-01-15", "2021-04-15", "2021-07-15", "2021-10-15", "2021-12-01"),
+        generator.generate(start, end, Frequency.P3M, false, StubConvention.SHORT_FINAL).getDates());
+    assertEquals(dates("2021-01-15", "2021-04-15", "2021-07-15", "2021-12-01"),
+        generator.generate(start, end, Frequency.P3M, false, StubConvention.LONG_FINAL).getDates());
+    assertEquals(dates("2021-01-15", "2021-03-01", "2021-06-01", "2021-09-01", "2021-12-01"),
+        generator.generate(start, end, Frequency.P3M, false, StubConvention.SHORT_INITIAL).getDates());
+    assertEquals(dates("2021-01-15", "2021-06-01", "2021-09-01", "2021-12-01"),
+        generator.generate(start, end, Frequency.P3M, false, StubConvention.LONG_INITIAL).getDates());
+    // single period shorter than the frequency
+    assertEquals(dates("2021-01-15", "2021-03-01"),
+        generator.generate(start, LocalDate.parse("2021-03-01"), Frequency.P6M, false, StubConvention.LONG_FINAL)
+            .getDates());
+    assertEquals(dates("2021-01-15", "2021-12-01"),
+        generator.generate(start, end, Frequency.TERM, false, StubConvention.SHORT_FINAL).getDates());
+  }
+
+  @Test
+  void endOfMonth() {
+    LocalDate start = LocalDate.parse("2021-01-31");
+    assertEquals(dates("2021-01-31", "2021-02-28", "2021-03-31", "2021-04-30"),
+        generator.generate(start, LocalDate.parse("2021-04-30"), Frequency.P1M, true, StubConvention.SHORT_FINAL)
+            .getDates());
+    assertEquals(dates("2021-01-31", "2021-02-28", "2021-03-31", "2021-04-30"),
+        generator.generate(start, LocalDate.parse("2021-04-30"), Frequency.P1M, false, StubConvention.SHORT_FINAL)
+            .getDates());
+    // no adjustment when the anchor date is not the end of month
+    assertEquals(dates("2021-01-28", "2021-02-28", "2021-03-28", "2021-04-28", "2021-04-30"),
+        generator.generate(LocalDate.parse("2021-01-28"), LocalDate.parse("2021-04-30"), Frequency.P1M, true,
+            StubConvention.SHORT_FINAL).getDates());
+    // backward roll from the end of February
+    assertEquals(dates("2020-11-30", "2020-12-31", "2021-01-31", "2021-02-28"),
+        generator.generate(LocalDate.parse("2020-11-30"), LocalDate.parse("2021-02-28"), Frequency.P1M, true,
+            StubConvention.SHORT_INITIAL).getDates());
+    assertEquals(dates("2020-11-30", "2020-12-28", "2021-01-28", "2021-02-28"),
+        generator.generate(LocalDate.parse("2020-11-30"), LocalDate.parse("2021-02-28"), Frequency.P1M, false,
+            StubConvention.SHORT_INITIAL).getDates());
+  }
+
+  @Test
+  void cache() {
+    LocalDate start = LocalDate.parse("2021-01-15");
+    Schedule schedule = generator.generate(start, Tenor.TENOR_5Y, Frequency.P6M, false, StubConvention.SHORT_FINAL);
+    assertSame(schedule, generator.generate(start, Tenor.TENOR_5Y, Frequency.P6M, false, StubConvention.SHORT_FINAL));
+    assertEquals(11, schedule.size());
+    int[] epochDays = schedule.toEpochDays();
+    epochDays[0] = 0;
+    assertEquals(start, schedule.getStartDate());
+    assertArrayEquals(schedule.toEpochDays(), ScheduleGenerator.of(0)
+        .generate(start, Tenor.TENOR_5Y, Frequency.P6M, false, StubConvention.SHORT_FINAL).toEpochDays());
+    for (int i = 0; i < 20; i++) {
+      generator.generate(start.plusDays(i), Tenor.TENOR_1Y, Frequency.P1M, false, StubConvention.SHORT_FINAL);
+    }
+    assertTrue(generator.cacheSize() <= 16);
+  }
+
+  @Test
+  void invalid() {
+    LocalDate date = LocalDate.parse("2021-01-15");
+    assertThrows(IllegalArgumentException.class,
+        () -> generator.generate(date, date, Frequency.P1M, false, StubConvention.SHORT_FINAL));
+    assertThrows(IllegalArgumentException.class,
+        () -> Schedule.ofEpochDays(new int[] { 10, 10 }));
+  }
+}
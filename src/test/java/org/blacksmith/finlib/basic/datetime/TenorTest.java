@@ -2,6 +2,7 @@ package org.blacksmith.finlib.basic.datetime;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.List;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -19,4 +20,47 @@ class TenorTest {
     var tenor1M27D = Tenor.of(Period.between(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 3, 1).minusDays(1)));
     Assertions.assertThat(tenor1M27D.toString()).isEqualTo("1M27D");
     Assertions.assertThat(tenor1M27D.getPeriod().toString()).isEqualTo("P1M27D");  }
+
+  @Test
+  void addToEpochDayTest() {
+    var date = LocalDate.of(2020, 1, 31);
+    var epochDay = (int) date.toEpochDay();
+    for (var tenor : List.of(Tenor.TENOR_1D, Tenor.TENOR_2W, Tenor.TENOR_1M, Tenor.TENOR_18M, Tenor.TENOR_5Y,
+        Tenor.parse("1M27D"))) {
+      Assertions.assertThat(LocalDate.ofEpochDay(tenor.addToEpochDay(epochDay))).isEqualTo(tenor.addTo(date));
+      Assertions.assertThat(LocalDate.ofEpochDay(tenor.addToEpochDay(epochDay, -1, false)))
+          .isEqualTo(tenor.subtractFrom(date));
+    }
+    Assertions.assertThat(LocalDate.ofEpochDay(Tenor.TENOR_1M.addToEpochDay(epochDay, 1, true)))
+        .isEqualTo(LocalDate.of(2020, 2, 29));
+    Assertions.assertThat(LocalDate.ofEpochDay(Tenor.TENOR_3M.addToEpochDay((int) LocalDate.of(2020, 2, 29).toEpochDay(),
+        1, true))).isEqualTo(LocalDate.of(2020, 5, 31));
+  }
+
+  @Test
+  void canonicalInstanceTest() {
+    Assertions.assertThat(Tenor.ofDays(14)).isSameAs(Tenor.TENOR_2W);
+    Assertions.assertThat(Tenor.ofMonths(3)).isSameAs(Tenor.TENOR_3M);
+    Assertions.assertThat(Tenor.ofYears(5)).isSameAs(Tenor.TENOR_5Y);
+    Assertions.assertThat(Tenor.of(Period.ofMonths(18))).isSameAs(Tenor.TENOR_18M);
+    Assertions.assertThat(Tenor.ofYears(500)).isSameAs(Tenor.ofYears(500));
+    Assertions.assertThat(Tenor.ofMonths(12)).isNotEqualTo(Tenor.TENOR_1Y);
+  }
+
+  @Test
+  void parseTest() {
+    Assertions.assertThat(Tenor.parse("3M")).isSameAs(Tenor.TENOR_3M);
+    Assertions.assertThat(Tenor.parse("P6M")).isSameAs(Tenor.TENOR_6M);
+    Assertions.assertThat(Tenor.parse("P14D")).isSameAs(Tenor.TENOR_2W);
+    Assertions.assertThat(Tenor.parse("1y")).isSameAs(Tenor.TENOR_1Y);
+    var tenor1Y6M = Tenor.parse("1Y6M");
+    Assertions.assertThat(tenor1Y6M).isSameAs(Tenor.parse("P1Y6M"));
+    Assertions.assertThat(tenor1Y6M.toString()).isEqualTo("1Y6M");
+    Assertions.assertThat(tenor1Y6M.getPeriod()).isEqualTo(Period.of(1, 6, 0));
+    Assertions.assertThat(Tenor.parse("1M2W1D").getPeriod()).isEqualTo(Period.of(0, 1, 15));
+    Assertions.assertThat(Tenor.parse("tenor 3M", 6, 8)).isSameAs(Tenor.TENOR_3M);
+    for (var invalid : List.of("", "P", "0D", "P-1M", "3X", "M", "6M1Y", "1M1M", "P99999999999D")) {
+      Assertions.assertThatThrownBy(() -> Tenor.parse(invalid)).isInstanceOf(IllegalArgumentException.class);
+    }
+  }
 }
@@ -147,4 +147,19 @@ class TimeUnitTest {
     assertEquals(date.minusYears(3), TimeUnit.YEAR.subtractFrom(date, 3));
     assertEquals(date.minusYears(-3), TimeUnit.YEAR.subtractFrom(date, -3));
   }
+
+  @Test
+  void addToEpochDay() {
+    for (LocalDate date = LocalDate.parse("2019-12-25"); date.isBefore(LocalDate.parse("2021-01-10"));
+        date = date.plusDays(1)) {
+      int epochDay = (int) date.toEpochDay();
+      for (TimeUnit unit : TimeUnit.values()) {
+        assertEquals(unit.addTo(date), LocalDate.ofEpochDay(unit.addToEpochDay(epochDay)));
+        for (int q = -5; q <= 5; q++) {
+          assertEquals(unit.addToWithEomAdjust(date, q, false), LocalDate.ofEpochDay(unit.addToEpochDay(epochDay, q, false)));
+          assertEquals(unit.addToWithEomAdjust(date, q, true), LocalDate.ofEpochDay(unit.addToEpochDay(epochDay, q, true)));
+        }
+      }
+    }
+  }
 }
@@ -0,0 +1,48 @@
+package org.blacksmith.finlib.basic.numbers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class AmountAccumulatorTest {
+  @Test
+  public void sumWithSingleRounding() {
+    AmountAccumulator accumulator = AmountAccumulator.of(2);
+    accumulator.add(Amount.of("0.004", 3));
+    accumulator.add(Amount.of("0.004", 3));
+    accumulator.add(Amount.of("1.10"));
+    assertEquals(new BigDecimal("1.108"), accumulator.getExactValue());
+    assertEquals(Amount.of("1.11"), accumulator.toAmount());
+    assertEquals(2, accumulator.toAmount().decimalPlaces());
+    accumulator.subtract(Amount.of("0.108", 3));
+    assertEquals(Amount.ONE, accumulator.toAmount());
+  }
+
+  @Test
+  public void collector() {
+    List<Amount> amounts = IntStream.rangeClosed(1, 1000)
+        .mapToObj(i -> Amount.of(i, 2))
+        .collect(Collectors.toList());
+    assertEquals(Amount.of(500500L), amounts.stream().collect(AmountAccumulator.summing()));
+    assertEquals(Amount.of(500500L), amounts.parallelStream().collect(AmountAccumulator.summing()));
+    assertEquals(amounts.stream().reduce(Amount.ZERO, Amount::add), amounts.stream().collect(AmountAccumulator.summing(2)));
+  }
+
+  @Test
+  public void overflow() {
+    AmountAccumulator accumulator = AmountAccumulator.of(2);
+    accumulator.add(Amount.ofUnscaled(Long.MAX_VALUE, 2));
+    assertFalse(accumulator.isInflated());
+    accumulator.add(Amount.ofUnscaled(Long.MAX_VALUE, 2));
+    assertTrue(accumulator.isInflated());
+    assertEquals(new BigDecimal("184467440737095516.14"), accumulator.toAmount().getValue());
+    accumulator.reset();
+    assertEquals(Amount.ZERO, accumulator.toAmount());
+  }
+}
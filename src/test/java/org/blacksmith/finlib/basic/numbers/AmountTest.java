@@ -1,6 +1,10 @@
 package org.blacksmith.finlib.basic.numbers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -34,6 +38,45 @@ public class AmountTest {
     assertEquals(Amount.of(2.15d), Rate.of(2.15d));
   }
 
+  @Test
+  public void amountCompactTest() {
+    Amount amount1 = Amount.of(12345L, 2);
+    assertTrue(amount1.isCompact());
+    assertEquals(1234500L, amount1.unscaledValue());
+    assertEquals(Amount.ofUnscaled(1234500L, 2), amount1);
+    assertEquals(new BigDecimal("12345.00"), amount1.getValue());
+    assertEquals(new BigDecimal("12469.45"), amount1.add(Amount.of("124.454", 3)).getValue());
+    assertEquals(new BigDecimal("433.84"), amount1.multiply(Rate.of("0.035143")).getValue());
+  }
+
+  @Test
+  public void amountOverflowTest() {
+    Amount max = Amount.ofUnscaled(Long.MAX_VALUE, 2);
+    assertTrue(max.isCompact());
+    Amount sum = max.add(Amount.ONE);
+    assertFalse(sum.isCompact());
+    assertEquals(new BigDecimal("92233720368547759.07"), sum.getValue());
+    assertEquals(new BigDecimal("92233720368547758.07"), sum.subtract(Amount.ONE).getValue());
+    assertTrue(sum.subtract(Amount.ONE).isCompact());
+    assertEquals(max, sum.subtract(Amount.ONE));
+  }
+
+  @Test
+  public void amountCacheTest() {
+    assertSame(Amount.ZERO, Amount.of(0L));
+    assertSame(Amount.HUNDRED, Amount.of(100L));
+    assertSame(Amount.of(5L, 4), Amount.ofUnscaled(50000L, 4));
+    assertSame(Amount.ONE, Amount.of("0.40").add(Amount.of("0.60")));
+    assertSame(Amount.ZERO, Amount.ONE.subtract(Amount.ONE));
+    assertSame(Amount.TEN, Amount.of("10"));
+    assertSame(Amount.TEN, Amount.of(new BigDecimal("10.000")));
+    assertSame(Amount.of(5L, 4), Amount.of(new BigDecimal("5"), 4));
+    assertSame(Amount.HUNDRED, Amount.of(100d));
+    assertSame(Amount.ONE, Amount.of(Amount.of(1L, 4), 2));
+    assertNotSame(Amount.of(2000L), Amount.of(2000L));
+    assertEquals(Amount.of(2000L), Amount.of(2000L));
+  }
+
   @Test
   public void xamountTest() {
     conversions(0.01d, 2);
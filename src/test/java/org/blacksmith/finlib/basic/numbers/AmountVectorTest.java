@@ -0,0 +1,84 @@
+package org.blacksmith.finlib.basic.numbers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class AmountVectorTest {
+  @Test
+  public void arithmetic() {
+    AmountVector v1 = AmountVector.of(List.of(Amount.of("1.25"), Amount.of("-2.50"), Amount.of("100.05")));
+    AmountVector v2 = AmountVector.ofUnscaled(new long[] { 100, 250, 5 }, 2);
+    assertArrayEquals(new long[] { 225, 0, 10010 }, v1.add(v2).toUnscaledArray());
+    assertArrayEquals(new long[] { 25, -500, 10000 }, v1.subtract(v2).toUnscaledArray());
+    assertArrayEquals(new long[] { 13, -25, 1001 }, v1.multiply(Rate.of("0.1")).toUnscaledArray());
+    assertArrayEquals(new long[] { -125, 250, -10005 }, v1.negate().toUnscaledArray());
+    assertEquals(Amount.of("98.80"), v1.sum());
+    assertEquals(Amount.of("-2.50"), v1.min());
+    assertEquals(Amount.of("100.05"), v1.max());
+    assertArrayEquals(new long[] { 1, -3, 100 }, v1.round(0).toUnscaledArray());
+  }
+
+  @Test
+  public void sameResultsAsAmount() {
+    Random random = new Random(7);
+    List<Amount> amounts = IntStream.range(0, 1000)
+        .mapToObj(i -> Amount.ofUnscaled(random.nextInt() / 10, 2))
+        .collect(Collectors.toList());
+    List<Rate> rates = IntStream.range(0, 1000)
+        .mapToObj(i -> Rate.ofUnscaled(random.nextInt(2_000_000_000), 9))
+        .collect(Collectors.toList());
+    AmountVector vector = AmountVector.of(amounts);
+    RateVector rateVector = RateVector.of(rates);
+    List<Amount> products = vector.multiply(rateVector).toList();
+    for (int i = 0; i < amounts.size(); i++) {
+      assertEquals(amounts.get(i).multiply(rates.get(i)), products.get(i));
+      assertEquals(amounts.get(i).multiply(rates.get(0)), vector.multiply(rates.get(0)).get(i));
+    }
+    assertEquals(amounts.stream().reduce(Amount.ZERO, Amount::add), vector.sum());
+  }
+
+  @Test
+  public void addRoundsOnce() {
+    AmountVector vector = AmountVector.of(List.of(Amount.of("-1.00"), Amount.of("1.00")));
+    Amount augend = Amount.of("0.005", 3);
+    assertEquals(Amount.of("-1.00").add(augend), vector.add(augend).get(0));
+    assertEquals(Amount.of("1.00").add(augend), vector.add(augend).get(1));
+    assertArrayEquals(new long[] { -100, 101 }, vector.add(augend).toUnscaledArray());
+  }
+
+  @Test
+  public void inflatedOperand() {
+    AmountVector vector = AmountVector.of(List.of(Amount.of("1.25"), Amount.of("-2.50")));
+    Rate rate = Rate.of(new BigDecimal("1E+12"));
+    Amount augend = Amount.of(new BigDecimal("1E+20"), 2);
+    assertFalse(rate.isCompact());
+    assertFalse(augend.isCompact());
+    assertEquals(Amount.of("1.25").multiply(rate), vector.multiply(rate).get(0));
+    assertEquals(Amount.of("-2.50").multiply(rate), vector.multiply(rate).get(1));
+    assertThrows(ArithmeticException.class, () -> vector.add(augend));
+  }
+
+  @Test
+  public void sizeMismatch() {
+    AmountVector v1 = AmountVector.zeros(2, 2);
+    AmountVector v2 = AmountVector.zeros(3, 2);
+    assertThrows(IllegalArgumentException.class, () -> v1.add(v2));
+  }
+
+  @Test
+  public void overflow() {
+    AmountVector v1 = AmountVector.ofUnscaled(new long[] { Long.MAX_VALUE }, 2);
+    assertThrows(ArithmeticException.class, () -> v1.add(v1));
+    assertEquals(Amount.ofUnscaled(Long.MAX_VALUE, 2).add(Amount.ofUnscaled(Long.MAX_VALUE, 2)),
+        AmountVector.ofUnscaled(new long[] { Long.MAX_VALUE, Long.MAX_VALUE }, 2).sum());
+  }
+}
@@ -0,0 +1,93 @@
+package org.blacksmith.finlib.basic.numbers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class MappedAmountColumnTest {
+  @Test
+  public void writeAndReopen() throws IOException {
+    Path path = Files.createTempFile("amount", ".col");
+    try {
+      try (MappedAmountColumn column = MappedAmountColumn.write(path, List.of(Amount.of("1.25"), Amount.of("-7.005", 3)), 2)) {
+        assertEquals(2, column.size());
+      }
+      try (MappedAmountColumn column = MappedAmountColumn.openReadOnly(path)) {
+        assertEquals(Amount.of("1.25"), column.get(0));
+        assertEquals(Amount.of("-7.01"), column.get(1));
+        assertArrayEquals(new long[] { 125, -701 }, column.toVector().toUnscaledArray());
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Test
+  public void writeVector() throws IOException {
+    Path path = Files.createTempFile("amount", ".col");
+    try {
+      AmountVector vector = AmountVector.ofUnscaled(new long[] { 1, 2, 3 }, 4);
+      try (MappedAmountColumn column = MappedAmountColumn.write(path, vector)) {
+        assertEquals(vector, column.toVector());
+        assertThrows(ArithmeticException.class, () -> column.set(0, Amount.ofUnscaled(Long.MAX_VALUE, 0)));
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Test
+  public void rejectCorruptFile() throws IOException {
+    Path path = Files.createTempFile("amount", ".col");
+    try {
+      MappedAmountColumn.write(path, AmountVector.ofUnscaled(new long[] { 1, 2 }, 2)).close();
+      overwrite(path, 12, ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, 19));
+      assertThrows(IOException.class, () -> MappedAmountColumn.openReadOnly(path));
+      overwrite(path, 12, ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, 2));
+      overwrite(path, 16, ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, Long.MAX_VALUE / 4));
+      assertThrows(IOException.class, () -> MappedAmountColumn.openReadOnly(path));
+      overwrite(path, 16, ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, 2));
+      overwrite(path, 40, ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, FixedPoint.INFLATED));
+      try (MappedAmountColumn column = MappedAmountColumn.openReadOnly(path)) {
+        assertThrows(ArithmeticException.class, column::toVector);
+        assertEquals(Amount.of("0.01"), column.get(0));
+        assertThrows(ArithmeticException.class, () -> column.get(1));
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Test
+  public void rejectInvalidValuesBeforeCreatingFile() throws IOException {
+    Path path = Files.createTempFile("amount", ".col");
+    try {
+      byte[] content = { 1, 2, 3 };
+      Files.write(path, content);
+      assertThrows(ArithmeticException.class,
+          () -> MappedAmountColumn.write(path, List.of(Amount.of("1.25"), Amount.ofUnscaled(Long.MAX_VALUE, 0)), 2));
+      assertThrows(IllegalArgumentException.class,
+          () -> MappedAmountColumn.write(path, Arrays.asList(Amount.of("1.25"), null), 2));
+      assertArrayEquals(content, Files.readAllBytes(path));
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  private static void overwrite(Path path, long position, ByteBuffer data) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      channel.write(data, position);
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package org.blacksmith.finlib.basic.numbers;
 
+import java.math.BigDecimal;
+
 import org.blacksmith.finlib.basic.numbers.Rate;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,18 @@ public class RateTest {
     Assertions.assertEquals(3.12d, Rate.of(3.12345678d,2).doubleValue());
   }
 
+  @Test
+  public void rateCache() {
+    Assertions.assertSame(Rate.ONE, Rate.of(1L));
+    Assertions.assertSame(Rate.ofUnscaled(230_000_000, 9), Rate.ofUnscaled(230_000_000, 9));
+    Assertions.assertSame(Rate.ZERO, Rate.of("0.05").subtract(Rate.of("0.05")));
+    Assertions.assertNotSame(Rate.ofUnscaled(230_000_001, 9), Rate.ofUnscaled(230_000_001, 9));
+    Assertions.assertSame(Rate.ofUnscaled(50_000_000, 9), Rate.of("0.05"));
+    Assertions.assertSame(Rate.of("0.05"), Rate.of(new BigDecimal("0.050")));
+    Assertions.assertSame(Rate.of("0.05"), Rate.of(0.05d));
+    Assertions.assertSame(Rate.of("0.05", 4), Rate.of(Rate.of("0.05"), 4));
+  }
+
   @Test
   public void testMultiply() {
     Assertions.assertEquals(6.246912d, Rate.of(3.123456d).multiply(2).doubleValue());
@@ -0,0 +1,80 @@
+package org.blacksmith.finlib.basic.rate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.blacksmith.finlib.basic.accounting.CurrencyAmount;
+import org.blacksmith.finlib.basic.currency.Currency;
+import org.blacksmith.finlib.basic.numbers.Amount;
+import org.blacksmith.finlib.basic.numbers.Rate;
+import org.junit.jupiter.api.Test;
+
+public class CurrencyConverterTest {
+
+  private final FxRateMatrix matrix = FxRateMatrix.of(List.of(
+      FxRate.of(Currency.EUR, Currency.USD, Rate.of("1.10")),
+      FxRate.of(Currency.USD, Currency.PLN, Rate.of("4.00")),
+      FxRate.of(Currency.USD, Currency.JPY, Rate.of("150.00"))), Currency.USD);
+
+  @Test
+  void convertAll() {
+    CurrencyConverter converter = CurrencyConverter.of(matrix, Currency.PLN);
+    List<CurrencyAmount> amounts = List.of(
+        CurrencyAmount.of(new BigDecimal("10.00"), Currency.EUR),
+        CurrencyAmount.of(new BigDecimal("1000"), Currency.JPY),
+        CurrencyAmount.of(new BigDecimal("5.00"), Currency.PLN),
+        CurrencyAmount.of(new BigDecimal("2.50"), Currency.EUR));
+    CurrencyConverter.Result result = converter.convertAll(amounts);
+    assertEquals(List.of(
+        CurrencyAmount.of(new BigDecimal("44.00"), Currency.PLN),
+        CurrencyAmount.of(new BigDecimal("26.67"), Currency.PLN),
+        CurrencyAmount.of(new BigDecimal("5.00"), Currency.PLN),
+        CurrencyAmount.of(new BigDecimal("11.00"), Currency.PLN)), result.getItems());
+    assertEquals(CurrencyAmount.of(new BigDecimal("86.67"), Currency.PLN), result.getTotal());
+    assertEquals(CurrencyAmount.of(new BigDecimal("55.00"), Currency.PLN), result.getTotalsByCurrency().get(Currency.EUR));
+    assertEquals(converter.convert(amounts.get(1)), result.getItems().get(1));
+  }
+
+  @Test
+  void roundTargetCurrency() {
+    CurrencyConverter converter = CurrencyConverter.of(matrix, Currency.PLN);
+    List<CurrencyAmount> amounts = List.of(
+        CurrencyAmount.of(Amount.of("1.005", 3), Currency.PLN),
+        CurrencyAmount.of(Amount.of("2.001", 3), Currency.PLN));
+    CurrencyConverter.Result result = converter.convertAll(amounts);
+    assertEquals(List.of(
+        CurrencyAmount.of(new BigDecimal("1.01"), Currency.PLN),
+        CurrencyAmount.of(new BigDecimal("2.00"), Currency.PLN)), result.getItems());
+    assertEquals(CurrencyAmount.of(new BigDecimal("3.01"), Currency.PLN), result.getTotal());
+    assertEquals(result.getItems().get(0), converter.convert(amounts.get(0)));
+  }
+
+  @Test
+  void convertAllParallel() {
+    Random random = new Random(5);
+    List<Currency> currencies = List.of(Currency.EUR, Currency.USD, Currency.PLN, Currency.JPY);
+    List<CurrencyAmount> amounts = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      amounts.add(CurrencyAmount.of(BigDecimal.valueOf(random.nextInt(1_000_000), 2),
+          currencies.get(random.nextInt(currencies.size()))));
+    }
+    CurrencyConverter converter = CurrencyConverter.of(matrix, Currency.USD);
+    CurrencyConverter.Result sequential = converter.convertAll(amounts.stream());
+    CurrencyConverter.Result parallel = converter.convertAllParallel(amounts);
+    assertEquals(sequential.getItems(), parallel.getItems());
+    assertEquals(sequential.getTotal(), parallel.getTotal());
+    assertEquals(sequential.getTotalsByCurrency(), parallel.getTotalsByCurrency());
+  }
+
+  @Test
+  void convertMissingRate() {
+    CurrencyConverter converter = CurrencyConverter.of(matrix, Currency.GBP);
+    assertThrows(IllegalArgumentException.class,
+        () -> converter.convertAll(List.of(CurrencyAmount.of(BigDecimal.ONE, Currency.EUR))));
+  }
+}
@@ -0,0 +1,127 @@
+package org.blacksmith.finlib.basic.rate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.blacksmith.finlib.basic.currency.Currency;
+import org.blacksmith.finlib.basic.currency.CurrencyPair;
+import org.blacksmith.finlib.basic.numbers.Rate;
+import org.junit.jupiter.api.Test;
+
+public class FxRateHistoryTest {
+
+  private static final String CSV = "date,pair,rate\n"
+      + "2021-01-05,EUR/USD,1.2271\n"
+      + "2021-01-04,EUR/USD,1.2296\n"
+      + "2021-01-08,EUR/USD,1.2250\n"
+      + "\n"
+      + "2021-01-04,USD/PLN,3.6885\n"
+      + "2021-01-07,USD/PLN,3.6794\n";
+
+  private static final CurrencyPair EUR_USD = CurrencyPair.of("EUR/USD");
+  private static final CurrencyPair USD_PLN = CurrencyPair.of("USD/PLN");
+
+  @Test
+  void asOf() throws IOException {
+    FxRateHistory history = FxRateHistory.readCsv(new StringReader(CSV), 6);
+    assertAsOf(history);
+    assertFalse(history.findRateAsOf(CurrencyPair.of("GBP/USD"), LocalDate.of(2021, 1, 5)).isPresent());
+    assertThrows(IllegalArgumentException.class, () -> history.getAsOf(EUR_USD, LocalDate.of(2020, 12, 31)));
+    assertEquals(Rate.of("4.5262"), history.getMatrixAsOf(LocalDate.of(2021, 1, 6))
+        .findRate(Currency.EUR, Currency.USD).orElseThrow().multiply(Rate.of("3.6885"), 4));
+  }
+
+  @Test
+  void writeAndOpen() throws IOException {
+    Path file = Files.createTempFile("fx", ".bin");
+    try {
+      FxRateHistory.readCsv(new StringReader(CSV), 6).write(file);
+      FxRateHistory history = FxRateHistory.open(file);
+      assertAsOf(history);
+      assertEquals(3, history.findSeries(EUR_USD).orElseThrow().size());
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  void readCsvLines() throws IOException {
+    FxRateHistory history = FxRateHistory.readCsv(new StringReader("\uFEFF# rates\n"
+        + " 2021-01-04, EUR/USD ,1.2296\n"
+        + "2021-01-05,EUR/USD,1.2271\n"), 6);
+    assertEquals(2, history.findSeries(EUR_USD).orElseThrow().size());
+    assertEquals(2, FxRateHistory.readCsv(new StringReader("\uFEFF2021-01-04,EUR/USD,1.2296\n"
+        + "2021-01-05,EUR/USD,1.2271\n"), 6).findSeries(EUR_USD).orElseThrow().size());
+    IOException e = assertThrows(IOException.class, () -> FxRateHistory.readCsv(new StringReader(CSV
+        + "x2021-01-08,USD/PLN,3.6794\n"), 6));
+    assertTrue(e.getMessage().startsWith("Invalid FX rate at line 8"));
+    assertThrows(IOException.class, () -> FxRateHistory.readCsv(new StringReader(CSV + "date,pair,rate\n"), 6));
+  }
+
+  @Test
+  void openCorruptFile() throws IOException {
+    Path file = Files.createTempFile("fx", ".bin");
+    try {
+      FxRateHistory.readCsv(new StringReader(CSV), 6).write(file);
+      byte[] valid = Files.readAllBytes(file);
+      byte[] bytes = valid.clone();
+      ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(8, 40);
+      Files.write(file, bytes);
+      assertThrows(IOException.class, () -> FxRateHistory.open(file));
+      bytes = valid.clone();
+      // points * 16 wraps around to the same file size
+      long points = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).getLong(16);
+      ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putLong(16, points + (1L << 60));
+      Files.write(file, bytes);
+      assertThrows(IOException.class, () -> FxRateHistory.open(file));
+      bytes = valid.clone();
+      // the first series with the second date equal to the first one
+      ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+      int dates = 32 + 2 * 16 + buffer.getInt(32 + 8) * Long.BYTES;
+      buffer.putLong(dates + Long.BYTES, buffer.getLong(dates));
+      Files.write(file, bytes);
+      assertThrows(IOException.class, () -> FxRateHistory.open(file));
+      bytes = valid.clone();
+      // the second entry with the pair of the first one
+      System.arraycopy(bytes, 32, bytes, 48, 6);
+      Files.write(file, bytes);
+      assertThrows(IOException.class, () -> FxRateHistory.open(file));
+      Files.write(file, valid);
+      assertEquals(2, FxRateHistory.open(file).getSeries().size());
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  void builder() {
+    FxRateTimeSeries series = FxRateTimeSeries.builder(EUR_USD)
+        .put(LocalDate.of(2021, 1, 5), Rate.of("1.2"))
+        .put(LocalDate.of(2021, 1, 4), Rate.of("1.1"))
+        .put(LocalDate.of(2021, 1, 5), Rate.of("1.3"))
+        .build();
+    assertEquals(2, series.size());
+    assertEquals(Rate.of("1.3"), series.getAsOf(LocalDate.of(2021, 2, 1)).getRate());
+    FxRateHistory history = FxRateHistory.of(List.of(series));
+    assertEquals(Rate.of("1.1"), history.getAsOf(EUR_USD, LocalDate.of(2021, 1, 4)).getRate());
+  }
+
+  private void assertAsOf(FxRateHistory history) {
+    assertEquals(Rate.of("1.2296"), history.getAsOf(EUR_USD, LocalDate.of(2021, 1, 4)).getRate());
+    assertEquals(Rate.of("1.2271"), history.getAsOf(EUR_USD, LocalDate.of(2021, 1, 7)).getRate());
+    assertEquals(Rate.of("1.2250"), history.getAsOf(EUR_USD, LocalDate.of(2021, 3, 1)).getRate());
+    assertEquals(Rate.of("3.6885"), history.getAsOf(USD_PLN, LocalDate.of(2021, 1, 6)).getRate());
+    assertFalse(history.findRateAsOf(USD_PLN, LocalDate.of(2021, 1, 3)).isPresent());
+  }
+}
@@ -0,0 +1,54 @@
+package org.blacksmith.finlib.basic.rate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.blacksmith.finlib.basic.accounting.CurrencyAmount;
+import org.blacksmith.finlib.basic.currency.Currency;
+import org.blacksmith.finlib.basic.numbers.Rate;
+import org.junit.jupiter.api.Test;
+
+public class FxRateMatrixTest {
+
+  private final FxRateMatrix matrix = FxRateMatrix.of(List.of(
+      FxRate.of(Currency.EUR, Currency.USD, Rate.of("1.10")),
+      FxRate.of(Currency.USD, Currency.PLN, Rate.of("4.00")),
+      FxRate.of(Currency.USD, Currency.JPY, Rate.of("150.00"))), Currency.USD);
+
+  @Test
+  void directAndInverse() {
+    assertEquals(Rate.of("1.10"), matrix.getRate(Currency.EUR, Currency.USD));
+    assertEquals(Rate.of("0.25"), matrix.getRate(Currency.PLN, Currency.USD));
+    assertEquals(Rate.of("0.909090909"), matrix.getRate(Currency.USD, Currency.EUR));
+    assertSame(Rate.ONE, matrix.getRate(Currency.GBP, Currency.GBP));
+  }
+
+  @Test
+  void crossRates() {
+    assertEquals(Rate.of("4.40"), matrix.getRate(Currency.EUR, Currency.PLN));
+    assertEquals(Rate.of("37.5"), matrix.getRate(Currency.PLN, Currency.JPY));
+    assertSame(matrix.getRate(Currency.EUR, Currency.JPY), matrix.getRate(Currency.EUR, Currency.JPY));
+    assertFalse(matrix.contains(Currency.EUR, Currency.GBP));
+    assertThrows(IllegalArgumentException.class, () -> matrix.getRate(Currency.GBP, Currency.EUR));
+    assertFalse(FxRateMatrix.of(matrix.getFxRates()).contains(Currency.EUR, Currency.PLN));
+  }
+
+  @Test
+  void convert() {
+    CurrencyAmount converted = matrix.convert(CurrencyAmount.of(new BigDecimal("100.00"), Currency.EUR), Currency.JPY);
+    assertEquals(CurrencyAmount.of(new BigDecimal("16500"), Currency.JPY), converted);
+  }
+
+  @Test
+  void publish() {
+    FxRateMatrixHolder holder = FxRateMatrixHolder.of(matrix);
+    FxRateMatrix next = FxRateMatrix.of(List.of(FxRate.of(Currency.EUR, Currency.USD, Rate.of("1.20"))));
+    assertSame(matrix, holder.publish(next));
+    assertEquals(Rate.of("1.20"), holder.current().getRate(Currency.EUR, Currency.USD));
+  }
+}
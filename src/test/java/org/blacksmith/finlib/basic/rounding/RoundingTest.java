@@ -1,8 +1,15 @@
 package org.blacksmith.finlib.basic.rounding;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
 import java.util.List;
+import java.util.Random;
 import java.util.function.UnaryOperator;
 import org.blacksmith.commons.string.Pair;
 import org.junit.jupiter.api.Test;
@@ -57,6 +64,161 @@ public class RoundingTest {
         (v)->RoundingFactory.of(RoundingMode.UP, 0, 4).round(v),"UP 0 places 4 fraction");
   }
 
+  @Test
+  void roundModes() {
+    BigDecimal[] values = { new BigDecimal("2.345"), new BigDecimal("2.355"), new BigDecimal("-2.345"),
+        new BigDecimal("2.3451") };
+    assertRounded(RoundingMode.UP, values, "2.35", "2.36", "-2.35", "2.35");
+    assertRounded(RoundingMode.DOWN, values, "2.34", "2.35", "-2.34", "2.34");
+    assertRounded(RoundingMode.HALF_EVEN, values, "2.34", "2.36", "-2.34", "2.35");
+    assertRounded(RoundingMode.HALF_DOWN, values, "2.34", "2.35", "-2.34", "2.35");
+    assertRounded(RoundingMode.CEILING, values, "2.35", "2.36", "-2.34", "2.35");
+    assertRounded(RoundingMode.FLOOR, values, "2.34", "2.35", "-2.35", "2.34");
+    assertEquals(new BigDecimal("1.5"), RoundingFactory.of(RoundingMode.HALF_EVEN, 0, 4).round(new BigDecimal("1.625")));
+    assertEquals(new BigDecimal("1.75"), RoundingFactory.of(RoundingMode.CEILING, 0, 4).round(new BigDecimal("1.51")));
+    assertEquals(new BigDecimal("1.5"), RoundingFactory.of(RoundingMode.DOWN, 0, 4).round(new BigDecimal("1.74")));
+  }
+
+  @Test
+  void roundingCache() {
+    for (RoundingMode mode : RoundingMode.values()) {
+      assertSame(RoundingFactory.of(mode, 2), RoundingFactory.of(mode, 2, 0));
+      assertSame(RoundingFactory.of(mode, 2, 1), RoundingFactory.of(mode, 2, 0));
+      assertSame(RoundingFactory.of(mode, 100, 8), RoundingFactory.of(mode, 100, 8));
+    }
+    assertSame(HalfUpRounding.ofDecimalPlaces(2), RoundingFactory.of(RoundingMode.UP, 2));
+    assertSame(HalfUpRounding.ofFractionalDecimalPlaces(2, 4), RoundingFactory.of(RoundingMode.UP, 2, 4));
+    assertThrows(IllegalArgumentException.class, () -> RoundingFactory.of(RoundingMode.HALF_EVEN, 256));
+    assertThrows(IllegalArgumentException.class, () -> RoundingFactory.of(RoundingMode.HALF_EVEN, 2, 257));
+  }
+
+  private void assertRounded(RoundingMode mode, BigDecimal[] values, String... expected) {
+    Rounding rounding = RoundingFactory.of(mode, 2);
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(new BigDecimal(expected[i]), rounding.round(values[i]), values[i] + " after rounding " + mode);
+    }
+  }
+
+  @Test
+  void roundUpAligned() {
+    BigDecimal value = new BigDecimal("1.25");
+    assertSame(value, RoundingFactory.of(RoundingMode.UP, 2).round(value));
+    assertSame(value, RoundingFactory.of(RoundingMode.DOWN, 2).round(value));
+  }
+
+  @Test
+  void roundUpParity() {
+    Random random = new Random(17);
+    int[] fractions = { 0, 2, 3, 4, 8, 10, 20, 100, 250, 256 };
+    for (int decimalPlaces = -15; decimalPlaces <= 255; decimalPlaces++) {
+      for (int fraction : fractions) {
+        Rounding rounding = RoundingFactory.of(RoundingMode.UP, decimalPlaces, fraction);
+        for (int i = 0; i < 200; i++) {
+          BigDecimal value = BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(24) - 4);
+          assertRoundUpParity(value, rounding, decimalPlaces, fraction);
+        }
+      }
+    }
+  }
+
+  @Test
+  void roundDoubleUp() {
+    Rounding rounding = RoundingFactory.ofDouble(RoundingMode.UP, 2);
+    assertEquals(1.01d, rounding.round(1.005d));
+    assertEquals(0.59d, rounding.round(0.585d));
+    assertEquals(2.68d, rounding.round(2.675d));
+    assertEquals(-2.68d, rounding.round(-2.675d));
+    assertEquals(0.0d, rounding.round(-0.001d));
+    assertEquals(260.0d, RoundingFactory.ofDouble(RoundingMode.UP, -1).round(256.025d));
+  }
+
+  @Test
+  void roundDoubleUpParity() {
+    Random random = new Random(17);
+    for (int decimalPlaces = -15; decimalPlaces <= 20; decimalPlaces++) {
+      Rounding expected = RoundingFactory.of(RoundingMode.UP, decimalPlaces);
+      Rounding actual = RoundingFactory.ofDouble(RoundingMode.UP, decimalPlaces);
+      for (int i = 0; i < 20000; i++) {
+        double value = random.nextInt(2) == 0
+            ? random.nextDouble() * Math.pow(10, random.nextInt(30) - 10)
+            : (random.nextInt(2000000) - 1000000 + 0.5d) / Math.pow(10, random.nextInt(10));
+        assertEquals(expected.round(value), actual.round(value), value + " after rounding to " + decimalPlaces + "dp");
+      }
+    }
+  }
+
+  @Test
+  void roundBulkParity() {
+    Random random = new Random(17);
+    double[] values = new double[5000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = random.nextInt(3) == 0
+          ? (random.nextInt(2000000) - 1000000) / Math.pow(10, random.nextInt(8))
+          : (random.nextDouble() - 0.5d) * Math.pow(10, random.nextInt(20) - 6);
+    }
+    values[0] = 1.005d;
+    values[1] = -2.675d;
+    values[2] = 0.0d;
+    for (int decimalPlaces = -5; decimalPlaces <= 18; decimalPlaces++) {
+      for (RoundingMode mode : RoundingMode.values()) {
+        Rounding rounding = RoundingFactory.of(mode, decimalPlaces);
+        double[] expected = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+          expected[i] = rounding.round(values[i]);
+        }
+        double[] result = new double[values.length];
+        rounding.round(values, result);
+        assertArrayEquals(expected, result, mode + " " + decimalPlaces + "dp");
+        double[] inPlace = values.clone();
+        rounding.round(inPlace, inPlace);
+        assertArrayEquals(expected, inPlace, mode + " " + decimalPlaces + "dp in place");
+      }
+    }
+  }
+
+  @Test
+  void roundBulkBuffers() {
+    Rounding rounding = RoundingFactory.of(RoundingMode.UP, 2);
+    double[] values = new double[3000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i * 1.005d;
+    }
+    double[] expected = new double[values.length];
+    rounding.round(values, expected);
+    DoubleBuffer buffer = ByteBuffer.allocateDirect(values.length * Double.BYTES).asDoubleBuffer();
+    buffer.put(values).flip();
+    rounding.round(buffer, buffer.duplicate());
+    double[] result = new double[values.length];
+    buffer.rewind().get(result);
+    assertArrayEquals(expected, result);
+
+    BigDecimal[] decimals = { new BigDecimal("1.005"), new BigDecimal("-2.675"), new BigDecimal("3.1") };
+    BigDecimal[] rounded = new BigDecimal[decimals.length];
+    RoundingFactory.of(RoundingMode.UP, 2).round(decimals, rounded);
+    assertArrayEquals(new BigDecimal[] { new BigDecimal("1.01"), new BigDecimal("-2.68"), new BigDecimal("3.10") }, rounded);
+    RoundingFactory.of(RoundingMode.DOWN, 2).round(decimals, decimals);
+    assertArrayEquals(new BigDecimal[] { new BigDecimal("1.00"), new BigDecimal("-2.67"), new BigDecimal("3.10") }, decimals);
+    assertThrows(IllegalArgumentException.class, () -> rounding.round(values, new double[1]));
+  }
+
+  private void assertRoundUpParity(BigDecimal value, Rounding rounding, int decimalPlaces, int fraction) {
+    String description = value + " after rounding to 1/" + fraction + " of " + decimalPlaces + "dp";
+    BigDecimal expected;
+    try {
+      expected = fraction > 1
+          ? value.multiply(BigDecimal.valueOf(fraction))
+              .setScale(decimalPlaces, java.math.RoundingMode.HALF_UP)
+              .divide(BigDecimal.valueOf(fraction))
+          : value.setScale(decimalPlaces, java.math.RoundingMode.HALF_UP);
+    } catch (ArithmeticException e) {
+      assertThrows(ArithmeticException.class, () -> rounding.round(value), description);
+      return;
+    }
+    BigDecimal actual = rounding.round(value);
+    assertEquals(expected, actual, description);
+    assertEquals(expected.scale(), actual.scale(), description);
+  }
+
   private void testList(List<Pair<Double,Double>> testValues, UnaryOperator<Double> rnd, String description) {
     testValues.forEach(pv->testRnd(pv.getRight(),pv.getLeft(),rnd,pv.getLeft() + " after rounding with " + description));
   }